@@ -0,0 +1,35 @@
+package io.github.douglasliebl.api.config;
+
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import io.github.douglasliebl.api.services.changes.ChangeSyncProperties;
+import org.springframework.boot.autoconfigure.transaction.PlatformTransactionManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(ChangeSyncProperties.class)
+public class ChangeSyncConfig {
+
+    /**
+     * Caps the default transaction timeout at half the settle lag, the bound the
+     * {@link ChangeHorizon} relies on. Statements are then cut off by a query timeout
+     * once their transaction is that old. A lower {@code spring.transaction.default-timeout}
+     * is kept.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public PlatformTransactionManagerCustomizer<AbstractPlatformTransactionManager> settleLagTransactionTimeout(
+            ChangeSyncProperties properties) {
+        int limit = (int) Math.max(1, properties.getSettleLag().dividedBy(2).toSeconds());
+        return transactionManager -> {
+            int timeout = transactionManager.getDefaultTimeout();
+            if (timeout == TransactionDefinition.TIMEOUT_DEFAULT || timeout > limit)
+                transactionManager.setDefaultTimeout(limit);
+        };
+    }
+}
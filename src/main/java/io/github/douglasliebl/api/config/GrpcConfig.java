@@ -0,0 +1,29 @@
+package io.github.douglasliebl.api.config;
+
+import io.github.douglasliebl.api.config.grpc.GrpcProperties;
+import io.github.douglasliebl.api.config.grpc.GrpcServer;
+import io.github.douglasliebl.api.resource.grpc.UserGrpcService;
+import io.github.douglasliebl.api.services.UserService;
+import io.grpc.BindableService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+@ConditionalOnProperty(prefix = "api.grpc", name = "enabled", matchIfMissing = true)
+public class GrpcConfig {
+
+    @Bean
+    public UserGrpcService userGrpcService(UserService service) {
+        return new UserGrpcService(service);
+    }
+
+    @Bean
+    public GrpcServer grpcServer(GrpcProperties properties, List<BindableService> services) {
+        return new GrpcServer(properties, services);
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.douglasliebl.api.config;
 
+import io.github.douglasliebl.api.config.timing.TimedModelMapper;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +10,14 @@ import org.springframework.context.annotation.Configuration;
 public class ModelMapperConfig {
 
     @Bean
+    @ConditionalOnProperty(prefix = "api.timing", name = "enabled", matchIfMissing = true)
     public ModelMapper mapper() {
+        return new TimedModelMapper();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "api.timing", name = "enabled", havingValue = "false")
+    public ModelMapper untimedMapper() {
         return new ModelMapper();
     }
 }
@@ -0,0 +1,31 @@
+package io.github.douglasliebl.api.config;
+
+import io.github.douglasliebl.api.services.readmodel.ReadModelProperties;
+import io.github.douglasliebl.api.services.readmodel.UserReadModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReadModelProperties.class)
+@RequiredArgsConstructor
+public class ReadModelConfig implements SchedulingConfigurer {
+
+    private final ReadModelProperties properties;
+    private final UserReadModel readModel;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled())
+            return;
+
+        registrar.addFixedDelayTask(readModel::refresh, properties.getRefreshInterval());
+        registrar.addFixedDelayTask(new FixedDelayTask(readModel::reload,
+                properties.getReloadInterval(), properties.getReloadInterval()));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.douglasliebl.api.config;
+
+import io.github.douglasliebl.api.config.resilience.RepositoryGuardInterceptor;
+import io.github.douglasliebl.api.config.resilience.ResilienceProperties;
+import io.github.douglasliebl.api.config.resilience.StaleUserStore;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+@ConditionalOnProperty(prefix = "api.resilience", name = "enabled", matchIfMissing = true)
+public class ResilienceConfig {
+
+    static final String USER_REPOSITORY = "userRepository";
+    static final String USER_READ = "userRead";
+    static final String USER_WRITE = "userWrite";
+
+    @Bean
+    public RepositoryGuardInterceptor repositoryGuardInterceptor(CircuitBreakerRegistry circuitBreakers,
+                                                                 BulkheadRegistry bulkheads,
+                                                                 ResilienceProperties properties) {
+        return new RepositoryGuardInterceptor(
+                circuitBreakers.circuitBreaker(USER_REPOSITORY),
+                bulkheads.bulkhead(USER_READ),
+                bulkheads.bulkhead(USER_WRITE),
+                new StaleUserStore(properties.getStaleCapacity()));
+    }
+
+    /**
+     * Adds the guard to the {@link UserRepository} proxy. The interceptor is looked up
+     * on first use so the registries are not created while post-processors are.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryGuardBeanPostProcessor(ObjectProvider<RepositoryGuardInterceptor> guard) {
+        MethodInterceptor lazyGuard = invocation -> guard.getObject().invoke(invocation);
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean)
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory
+                            .addRepositoryProxyPostProcessor((proxyFactory, information) -> {
+                                if (UserRepository.class.equals(information.getRepositoryInterface()))
+                                    proxyFactory.addAdvice(0, lazyGuard);
+                            }));
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.douglasliebl.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasliebl.api.config.timing.RepositoryTimingInterceptor;
+import io.github.douglasliebl.api.config.timing.ServerTimingFilter;
+import io.github.douglasliebl.api.config.timing.TimedDataSource;
+import io.github.douglasliebl.api.config.timing.TimedJacksonHttpMessageConverter;
+import io.github.douglasliebl.api.config.timing.TimingProperties;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(TimingProperties.class)
+@ConditionalOnProperty(prefix = "api.timing", name = "enabled", matchIfMissing = true)
+public class TimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(TimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public static BeanPostProcessor timingBeanPostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean)
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory
+                            .addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(0, new RepositoryTimingInterceptor())));
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TimedDataSource))
+                    return new TimedDataSource(dataSource);
+                return bean;
+            }
+        };
+    }
+}
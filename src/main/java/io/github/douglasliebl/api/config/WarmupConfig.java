@@ -0,0 +1,32 @@
+package io.github.douglasliebl.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasliebl.api.config.warmup.UserWarmup;
+import io.github.douglasliebl.api.config.warmup.WarmupProperties;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.UserService;
+import jakarta.persistence.EntityManager;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "api.warmup", name = "enabled", matchIfMissing = true)
+public class WarmupConfig {
+
+    @Bean
+    public UserWarmup userWarmup(WarmupProperties properties, UserService service, UserRepository repository,
+                                 ModelMapper mapper, ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                 DataSource dataSource) {
+        return new UserWarmup(properties, service, repository, mapper, objectMapper,
+                new TransactionTemplate(transactionManager), entityManager, dataSource);
+    }
+}
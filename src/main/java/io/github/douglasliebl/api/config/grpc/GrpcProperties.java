@@ -0,0 +1,31 @@
+package io.github.douglasliebl.api.config.grpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.grpc")
+public class GrpcProperties {
+
+    /**
+     * Whether the gRPC transport is served next to the REST endpoints.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Address the gRPC server binds to, local only by default.
+     */
+    private String address = "127.0.0.1";
+
+    /**
+     * Port of the gRPC server, 0 for a random one.
+     */
+    private int port = 9090;
+
+    /**
+     * How long in-flight calls may run on shutdown before they are cancelled.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
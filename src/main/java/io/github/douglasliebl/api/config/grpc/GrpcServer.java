@@ -0,0 +1,56 @@
+package io.github.douglasliebl.api.config.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty gRPC server on its own port. It starts listening once the application is
+ * ready, so gRPC callers also wait for the warmup, and drains in-flight calls
+ * before the services behind it are destroyed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GrpcServer implements DisposableBean {
+
+    private final GrpcProperties properties;
+    private final List<BindableService> services;
+
+    private Server server;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException {
+        if (server != null)
+            return;
+
+        NettyServerBuilder builder = NettyServerBuilder
+                .forAddress(new InetSocketAddress(properties.getAddress(), properties.getPort()));
+        services.forEach(builder::addService);
+        server = builder.build().start();
+        log.info("grpc server started address={} port={}", properties.getAddress(), server.getPort());
+    }
+
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getPort();
+    }
+
+    @Override
+    public synchronized void destroy() throws InterruptedException {
+        if (server == null)
+            return;
+
+        server.shutdown();
+        if (!server.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS))
+            server.shutdownNow();
+    }
+}
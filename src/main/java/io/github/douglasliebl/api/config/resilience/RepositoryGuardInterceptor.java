@@ -0,0 +1,160 @@
+package io.github.douglasliebl.api.config.resilience;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Runs repository calls through the read or write bulkhead and the shared circuit
+ * breaker. When a call is rejected, the database is unreachable or a query times out,
+ * {@code findById} and {@code findAll} fall back to the {@link StaleUserStore} and flag
+ * the request as stale; every other call fails fast with {@link ServiceUnavailableException}.
+ * Other data access failures, such as lock conflicts, say nothing about the database's
+ * health and are passed through unchanged. The breaker records the same exceptions,
+ * see {@code resilience4j.circuitbreaker} in application.yaml.
+ * <p>
+ * The sparse reads {@code findFields} and {@code findFieldsByIds} fall back to the
+ * same store, projected to the requested fields. Their own results are partial rows,
+ * so they never fill the store: a sparse read only has a fallback when the same users
+ * were read in full before, and a lookup by ids only when every id is in the store.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RepositoryGuardInterceptor implements MethodInterceptor {
+
+    public static final String STALE_LOADED_AT = RepositoryGuardInterceptor.class.getName() + ".STALE_LOADED_AT";
+
+    static final String FIND_BY_ID = "findById";
+    static final String FIND_ALL = "findAll";
+    static final String FIND_FIELDS = "findFields";
+    static final String FIND_FIELDS_BY_IDS = "findFieldsByIds";
+    static final String SAVE = "save";
+    static final String DELETE_BY_ID = "deleteById";
+    static final String DELETE_WITH_TOMBSTONE = "deleteWithTombstone";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+    private final StaleUserStore staleStore;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        Object[] args = invocation.getArguments();
+        Bulkhead bulkhead = isRead(method) ? readBulkhead : writeBulkhead;
+
+        Object result;
+        try {
+            result = CircuitBreaker.decorateCheckedSupplier(circuitBreaker,
+                    Bulkhead.decorateCheckedSupplier(bulkhead, invocation::proceed)).get();
+        } catch (CallNotPermittedException | BulkheadFullException | DataAccessResourceFailureException
+                 | CannotCreateTransactionException | QueryTimeoutException | TransientDataAccessResourceException e) {
+            return fallback(method, args, e);
+        }
+
+        remember(method, args, result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object fallback(String method, Object[] args, Exception cause) {
+        if (FIND_BY_ID.equals(method) && args.length == 1) {
+            Optional<StaleUserStore.Stale<User>> stale = staleStore.get((Long) args[0]);
+            if (stale.isPresent()) {
+                markStale(stale.get().loadedAt());
+                return Optional.of(stale.get().value());
+            }
+        } else if (FIND_ALL.equals(method) && args.length == 0) {
+            Optional<StaleUserStore.Stale<List<User>>> stale = staleStore.getAll();
+            if (stale.isPresent()) {
+                markStale(stale.get().loadedAt());
+                return stale.get().value();
+            }
+        } else if (FIND_FIELDS.equals(method) && args.length == 1) {
+            Optional<StaleUserStore.Stale<List<User>>> stale = staleStore.getAll();
+            if (stale.isPresent()) {
+                markStale(stale.get().loadedAt());
+                return project(stale.get().value(), (Set<UserField>) args[0]);
+            }
+        } else if (FIND_FIELDS_BY_IDS.equals(method) && args.length == 2) {
+            Optional<List<Map<String, Object>>> stale = staleFieldsByIds((Set<UserField>) args[0],
+                    (Collection<Long>) args[1]);
+            if (stale.isPresent())
+                return stale.get();
+        }
+
+        log.warn("user_repository unavailable method={} breaker={} cause={}",
+                method, circuitBreaker.getState(), cause.toString());
+        throw new ServiceUnavailableException("Service temporarily unavailable");
+    }
+
+    /**
+     * Projects the stored users for the given ids, or returns empty unless every id is
+     * stored, since a missing one may be a user that was never read rather than one
+     * that does not exist. The request is marked with the oldest load time.
+     */
+    private Optional<List<Map<String, Object>>> staleFieldsByIds(Set<UserField> fields, Collection<Long> ids) {
+        List<User> users = new ArrayList<>(ids.size());
+        Instant loadedAt = Instant.MAX;
+        for (Long id : ids) {
+            Optional<StaleUserStore.Stale<User>> stale = staleStore.get(id);
+            if (stale.isEmpty())
+                return Optional.empty();
+            users.add(stale.get().value());
+            if (stale.get().loadedAt().isBefore(loadedAt))
+                loadedAt = stale.get().loadedAt();
+        }
+
+        if (!users.isEmpty())
+            markStale(loadedAt);
+        return Optional.of(project(users, fields));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remember(String method, Object[] args, Object result) {
+        if (FIND_BY_ID.equals(method) && args.length == 1)
+            ((Optional<User>) result).ifPresent(staleStore::put);
+        else if (SAVE.equals(method) && args.length == 1 && result instanceof User user)
+            staleStore.put(user);
+        else if (FIND_ALL.equals(method) && args.length == 0)
+            staleStore.putAll((List<User>) result);
+        else if ((DELETE_BY_ID.equals(method) || DELETE_WITH_TOMBSTONE.equals(method)) && args.length == 1)
+            staleStore.evict((Long) args[0]);
+    }
+
+    private static List<Map<String, Object>> project(List<User> users, Set<UserField> fields) {
+        return users.stream().map(user -> UserField.project(user, fields)).toList();
+    }
+
+    private static boolean isRead(String method) {
+        return method.startsWith("find") || method.startsWith("exists") || method.startsWith("count");
+    }
+
+    private static void markStale(Instant loadedAt) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null)
+            attributes.setAttribute(STALE_LOADED_AT, loadedAt, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.douglasliebl.api.config.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "api.resilience")
+public class ResilienceProperties {
+
+    /**
+     * Whether repository calls go through the bulkheads and the circuit breaker.
+     * Their limits are configured under resilience4j.bulkhead and
+     * resilience4j.circuitbreaker.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Users kept by id for stale reads while the database is unavailable.
+     */
+    private int staleCapacity = 10_000;
+}
@@ -0,0 +1,51 @@
+package io.github.douglasliebl.api.config.resilience;
+
+import io.github.douglasliebl.api.domain.User;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Last-known results of {@code findById} and {@code findAll}, served while the
+ * repository is unavailable. Single users are kept in a bounded LRU map.
+ */
+public class StaleUserStore {
+
+    public record Stale<T>(T value, Instant loadedAt) {
+    }
+
+    private final Map<Long, Stale<User>> users;
+    private volatile Stale<List<User>> all;
+
+    public StaleUserStore(int capacity) {
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Stale<User>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized void put(User user) {
+        users.put(user.getId(), new Stale<>(user, Instant.now()));
+    }
+
+    public synchronized void evict(Long id) {
+        users.remove(id);
+    }
+
+    public synchronized Optional<Stale<User>> get(Long id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    public void putAll(List<User> users) {
+        all = new Stale<>(users, Instant.now());
+    }
+
+    public Optional<Stale<List<User>>> getAll() {
+        return Optional.ofNullable(all);
+    }
+}
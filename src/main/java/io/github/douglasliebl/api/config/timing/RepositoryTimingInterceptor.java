@@ -0,0 +1,26 @@
+package io.github.douglasliebl.api.config.timing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Records every repository call as a {@code db.<method>} phase, including the
+ * transaction begin and therefore the connection acquisition.
+ */
+public class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    static final String PHASE_PREFIX = "db.";
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!RequestTimings.isActive())
+            return invocation.proceed();
+
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTimings.record(PHASE_PREFIX + invocation.getMethod().getName(), System.nanoTime() - start);
+        }
+    }
+}
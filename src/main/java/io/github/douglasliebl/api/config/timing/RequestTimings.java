@@ -0,0 +1,95 @@
+package io.github.douglasliebl.api.config.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Per-request accumulator of phase durations, bound to the request thread by
+ * {@link ServerTimingFilter}. Recording is a no-op outside of a request, so the
+ * instrumented components can call it unconditionally. Phases may nest, e.g. the
+ * {@code pool} wait is also part of the enclosing {@code db.*} query.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static void record(String phase, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null)
+            return;
+
+        long[] phaseTotals = timings.phases.computeIfAbsent(phase, key -> new long[2]);
+        phaseTotals[0] += nanos;
+        phaseTotals[1]++;
+    }
+
+    public static <T> T time(String phase, Supplier<T> action) {
+        if (!isActive())
+            return action.get();
+
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public Map<String, Long> phaseNanos() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        phases.forEach((phase, totals) -> result.put(phase, totals[0]));
+        return result;
+    }
+
+    /**
+     * Renders the phases as a {@code Server-Timing} header value, durations in
+     * milliseconds, followed by the given request total.
+     */
+    public String toServerTiming(long totalNanos) {
+        StringJoiner header = new StringJoiner(", ");
+        phases.forEach((phase, totals) -> header.add(
+                phase + ";dur=" + millis(totals[0]) + ";desc=\"" + totals[1] + "x\""));
+        header.add("total;dur=" + millis(totalNanos));
+        return header.toString();
+    }
+
+    /**
+     * Renders the phases as space separated {@code phase=millis} pairs for logging.
+     */
+    public String toLogFields() {
+        StringJoiner fields = new StringJoiner(" ");
+        phases.forEach((phase, totals) -> fields.add(phase + "_ms=" + millis(totals[0])));
+        return fields.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.douglasliebl.api.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final TimingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        ContentCachingResponseWrapper buffered = properties.isServerTimingHeader()
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestTimings.clear();
+            long totalNanos = timings.elapsedNanos();
+
+            if (buffered != null) {
+                buffered.setHeader(SERVER_TIMING, timings.toServerTiming(totalNanos));
+                buffered.copyBodyToResponse();
+            }
+
+            if (totalNanos >= properties.getSlowRequestThreshold().toNanos())
+                log.warn("slow_request method={} uri={} status={} total_ms={} {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        RequestTimings.millis(totalNanos), timings.toLogFields());
+        }
+    }
+}
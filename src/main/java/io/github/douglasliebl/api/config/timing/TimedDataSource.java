@@ -0,0 +1,39 @@
+package io.github.douglasliebl.api.config.timing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Records the time spent waiting on the pool for a connection as the {@code pool} phase.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    static final String PHASE = "pool";
+
+    public TimedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            RequestTimings.record(PHASE, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            RequestTimings.record(PHASE, System.nanoTime() - start);
+        }
+    }
+}
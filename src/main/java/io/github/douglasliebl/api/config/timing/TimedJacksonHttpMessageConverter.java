@@ -0,0 +1,29 @@
+package io.github.douglasliebl.api.config.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    static final String PHASE = "serialization";
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTimings.record(PHASE, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.douglasliebl.api.config.timing;
+
+import org.modelmapper.ModelMapper;
+
+public class TimedModelMapper extends ModelMapper {
+
+    static final String PHASE = "mapping";
+
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+        return RequestTimings.time(PHASE, () -> super.map(source, destinationType));
+    }
+
+    @Override
+    public void map(Object source, Object destination) {
+        RequestTimings.time(PHASE, () -> {
+            super.map(source, destination);
+            return null;
+        });
+    }
+}
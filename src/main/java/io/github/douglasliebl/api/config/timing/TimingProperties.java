@@ -0,0 +1,27 @@
+package io.github.douglasliebl.api.config.timing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.timing")
+public class TimingProperties {
+
+    /**
+     * Whether requests are timed at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Whether the phase breakdown is sent back in a Server-Timing header. The
+     * response body is buffered so the header can be set after serialization.
+     */
+    private boolean serverTimingHeader = false;
+
+    /**
+     * Requests taking longer than this are logged with their phase breakdown.
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+}
@@ -0,0 +1,160 @@
+package io.github.douglasliebl.api.config.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.UserService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Exercises the create, findById, findAllById and listing paths, including DTO mapping
+ * and JSON serialization, before the application accepts traffic. Every iteration runs
+ * in a rollback-only transaction, so nothing is persisted, although the id sequence
+ * advances. The created user is detached before it is read back, so the lookups run
+ * their SELECTs instead of returning it from the persistence context. Iterations list
+ * a single keyset page of {@link #LIST_PAGE_SIZE} users, so their cost does not grow
+ * with the table; the full {@code findAll} runs once at the end, and only while the
+ * table is small. Spring Boot only moves readiness to ACCEPTING_TRAFFIC after all
+ * {@link ApplicationRunner}s return, so running here keeps the readiness probe down
+ * until the JIT compiler settles or {@link WarmupProperties#getMaxDuration()} passes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class UserWarmup implements ApplicationRunner, InfoContributor {
+
+    static final long FIND_ALL_LIMIT = 10_000;
+    static final int LIST_PAGE_SIZE = 100;
+
+    private final WarmupProperties properties;
+    private final UserService service;
+    private final UserRepository repository;
+    private final ModelMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        try {
+            report.put("poolConnections", prefillPool());
+            warmUp(start);
+            if (repository.count() <= FIND_ALL_LIMIT)
+                serialize(service.findAll().stream()
+                        .map(x -> mapper.map(x, UserDTO.class)).toList());
+        } catch (RuntimeException | SQLException e) {
+            log.warn("warmup aborted, accepting traffic cold", e);
+            report.put("error", e.toString());
+        }
+
+        report.put("durationMillis", (System.nanoTime() - start) / 1_000_000);
+        log.info("warmup finished {}", report);
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("warmup", report);
+    }
+
+    private void warmUp(long start) {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        long compileThresholdMillis = properties.getCompileThreshold().toMillis();
+        long compiledMillis = compileMillis(compiler);
+        List<Long> roundMicros = new ArrayList<>();
+        boolean stable;
+
+        do {
+            long roundStart = System.nanoTime();
+            for (int i = 0; i < properties.getRoundIterations(); i++)
+                iteration();
+            roundMicros.add((System.nanoTime() - roundStart) / 1_000 / properties.getRoundIterations());
+
+            long roundCompileMillis = compileMillis(compiler) - compiledMillis;
+            compiledMillis += roundCompileMillis;
+            stable = roundMicros.size() >= properties.getMinRounds()
+                    && roundCompileMillis < compileThresholdMillis;
+        } while (!stable && System.nanoTime() < deadline);
+
+        report.put("rounds", roundMicros.size());
+        report.put("iterations", roundMicros.size() * properties.getRoundIterations());
+        report.put("compilationStable", stable);
+        report.put("firstRoundMicrosPerIteration", roundMicros.get(0));
+        report.put("lastRoundMicrosPerIteration", roundMicros.get(roundMicros.size() - 1));
+    }
+
+    private void iteration() {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            User created = service.create(UserDTO.builder()
+                    .name("warmup")
+                    .email("warmup-" + UUID.randomUUID() + "@warmup.invalid")
+                    .password("warmup").build());
+            entityManager.flush();
+            entityManager.clear();
+
+            serialize(mapper.map(service.findById(created.getId()), UserDTO.class));
+            serialize(service.findAllById(List.of(created.getId())).stream()
+                    .map(x -> mapper.map(x, UserDTO.class)).toList());
+            serialize(service.findAllAfter(0L, LIST_PAGE_SIZE).stream()
+                    .map(x -> mapper.map(x, UserDTO.class)).toList());
+        });
+    }
+
+    /**
+     * Opens as many connections at once as the pool keeps idle, so none of them is
+     * established on a request thread.
+     */
+    private int prefillPool() throws SQLException {
+        int size = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMinimumIdle()
+                : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++)
+                connections.add(dataSource.getConnection());
+        } finally {
+            for (Connection connection : connections)
+                connection.close();
+        }
+        return connections.size();
+    }
+
+    private void serialize(Object body) {
+        try {
+            objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long compileMillis(CompilationMXBean compiler) {
+        return compiler != null && compiler.isCompilationTimeMonitoringSupported()
+                ? compiler.getTotalCompilationTime() : 0;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.douglasliebl.api.config.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.warmup")
+public class WarmupProperties {
+
+    /**
+     * Whether the user endpoints are exercised before the application reports ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Iterations of create/findById/findAll per round.
+     */
+    private int roundIterations = 100;
+
+    /**
+     * Rounds always run, even if JIT compilation settles earlier.
+     */
+    private int minRounds = 3;
+
+    /**
+     * Warmup stops once a round spends less than this in the JIT compiler.
+     */
+    private Duration compileThreshold = Duration.ofMillis(20);
+
+    /**
+     * Upper bound for the whole warmup, after which readiness is released anyway.
+     */
+    private Duration maxDuration = Duration.ofSeconds(60);
+}
@@ -2,12 +2,16 @@ package io.github.douglasliebl.api.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+
+import java.time.LocalDateTime;
 
 @Data @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tb_user")
+@Table(name = "tb_user", indexes = @Index(name = "ix_tb_user_change_seq", columnList = "change_seq", unique = true))
 public class User {
 
     @Id
@@ -20,4 +24,19 @@ public class User {
 
     private String password;
 
+    /**
+     * Value of tb_user_change_seq taken by every insert and update statement itself, see
+     * {@link UserTombstone}, and read back after the write.
+     */
+    @Column(name = "change_seq")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE}, sql = UserTombstone.NEXT_CHANGE_SEQ)
+    private Long changeSeq;
+
+    /**
+     * Start time of the transaction that took {@link #changeSeq}, see {@code ChangeHorizon}.
+     */
+    @Column(name = "changed_at")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE}, sql = UserTombstone.CHANGE_TIME)
+    private LocalDateTime changedAt;
+
 }
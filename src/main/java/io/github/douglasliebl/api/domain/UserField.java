@@ -0,0 +1,55 @@
+package io.github.douglasliebl.api.domain;
+
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Whitelist of {@link User} attributes that can be requested through {@code ?fields=}.
+ * The id is always selected so clients can correlate rows.
+ */
+public enum UserField {
+
+    ID("id", User::getId),
+    NAME("name", User::getName),
+    EMAIL("email", User::getEmail);
+
+    private final String attribute;
+    private final Function<User, Object> accessor;
+
+    UserField(String attribute, Function<User, Object> accessor) {
+        this.attribute = attribute;
+        this.accessor = accessor;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public static Set<UserField> parse(String fields) {
+        Set<UserField> result = EnumSet.of(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty())
+                continue;
+            try {
+                result.add(valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown field: " + name);
+            }
+        }
+        return result;
+    }
+
+    public static Map<String, Object> project(User user, Set<UserField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (UserField field : fields)
+            row.put(field.attribute, field.accessor.apply(user));
+        return row;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.douglasliebl.api.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a deleted user for delta sync. Tombstones and {@link User} rows draw from the
+ * same tb_user_change_seq, so one token orders creates, updates and deletes.
+ */
+@Data @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "tb_user_tombstone")
+public class UserTombstone {
+
+    public static final String CHANGE_SEQUENCE = "tb_user_change_seq";
+    public static final String NEXT_CHANGE_SEQ = "nextval('" + CHANGE_SEQUENCE + "')";
+    public static final String CHANGE_TIME = "localtimestamp";
+
+    @Id
+    @Column(name = "change_seq")
+    @SequenceGenerator(name = CHANGE_SEQUENCE, sequenceName = CHANGE_SEQUENCE, allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = CHANGE_SEQUENCE)
+    private Long changeSeq;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Start time of the deleting transaction, see {@code ChangeHorizon}.
+     */
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
+}
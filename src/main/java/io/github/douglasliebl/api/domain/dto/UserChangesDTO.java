@@ -0,0 +1,16 @@
+package io.github.douglasliebl.api.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserChangesDTO {
+
+    private List<UserDTO> users;
+    private List<Long> deleted;
+    private long token;
+    private boolean hasMore;
+}
@@ -0,0 +1,12 @@
+package io.github.douglasliebl.api.domain.dto;
+
+import lombok.*;
+
+@Data @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportErrorDTO {
+
+    private long row;
+    private String reason;
+}
@@ -0,0 +1,29 @@
+package io.github.douglasliebl.api.domain.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportReportDTO {
+
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+
+    /**
+     * Number of data rows fully processed, pass it back as {@code skip} to resume.
+     */
+    private long checkpoint;
+    private boolean completed;
+    private String failure;
+
+    private long durationMillis;
+    private long rowsPerSecond;
+
+    @Builder.Default
+    private List<UserImportErrorDTO> errors = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package io.github.douglasliebl.api.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserLookupDTO<T> {
+
+    private List<T> users;
+    private List<Long> missing;
+}
@@ -2,13 +2,39 @@ package io.github.douglasliebl.api.repositories;
 
 
 import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<User> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long changeSeq, Pageable pageable);
+
+    /**
+     * Highest change sequence below the first change newer than the horizon, see
+     * {@code ChangeHorizon}, or 0 when there is none.
+     */
+    @Query("select coalesce(max(u.changeSeq), 0) from User u where u.changeSeq < coalesce("
+            + "(select min(y.changeSeq) from User y where y.changedAt > :horizon), " + Long.MAX_VALUE + "L)")
+    long findSettledChangeSeq(@Param("horizon") LocalDateTime horizon);
+
+    @Query(value = "select " + UserTombstone.CHANGE_TIME, nativeQuery = true)
+    LocalDateTime findDatabaseTime();
+
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,22 @@
+package io.github.douglasliebl.api.repositories;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface UserRepositoryCustom {
+
+    void batchInsert(List<User> users);
+
+    boolean deleteWithTombstone(Long id);
+
+    int backfillChangeSeq(int limit);
+
+    List<Map<String, Object>> findFields(Set<UserField> fields);
+
+    List<Map<String, Object>> findFieldsByIds(Set<UserField> fields, Collection<Long> ids);
+}
@@ -0,0 +1,108 @@
+package io.github.douglasliebl.api.repositories;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    static final String INSERT = "insert into tb_user (name, email, password, change_seq, changed_at)"
+            + " values (?, ?, ?, " + UserTombstone.NEXT_CHANGE_SEQ + ", " + UserTombstone.CHANGE_TIME + ")";
+    static final String DELETE = "delete from tb_user where id = ?";
+    static final String INSERT_TOMBSTONE = "insert into tb_user_tombstone (change_seq, user_id, changed_at)"
+            + " values (" + UserTombstone.NEXT_CHANGE_SEQ + ", ?, " + UserTombstone.CHANGE_TIME + ")";
+    static final String BACKFILL_CHANGE_SEQ = "update tb_user set change_seq = " + UserTombstone.NEXT_CHANGE_SEQ
+            + ", changed_at = " + UserTombstone.CHANGE_TIME
+            + " where id in (select id from tb_user where change_seq is null order by id limit ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Inserts the users as a single JDBC batch in one transaction. Goes around
+     * Hibernate because IDENTITY ids disable its insert batching.
+     */
+    @Override
+    @Transactional
+    public void batchInsert(List<User> users) {
+        jdbcTemplate.batchUpdate(INSERT, users, users.size(), (statement, user) -> {
+            statement.setString(1, user.getName());
+            statement.setString(2, user.getEmail());
+            statement.setString(3, user.getPassword());
+        });
+    }
+
+    /**
+     * Deletes the user and records its tombstone in the same transaction, so a delta
+     * sync can never see the row gone without the delete.
+     */
+    @Override
+    @Transactional
+    public boolean deleteWithTombstone(Long id) {
+        if (jdbcTemplate.update(DELETE, id) == 0)
+            return false;
+        jdbcTemplate.update(INSERT_TOMBSTONE, id);
+        return true;
+    }
+
+    /**
+     * Gives a change sequence to at most {@code limit} of the rows written before the
+     * column existed, so they are part of a sync from token 0. Each call is its own
+     * short transaction; callers repeat it until it returns 0.
+     */
+    @Override
+    @Transactional
+    public int backfillChangeSeq(int limit) {
+        return jdbcTemplate.update(BACKFILL_CHANGE_SEQ, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFields(Set<UserField> fields) {
+        return selectFields(fields, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsByIds(Set<UserField> fields, Collection<Long> ids) {
+        return selectFields(fields, ids);
+    }
+
+    /**
+     * Selects only the requested columns as tuples, so no entity is instantiated or
+     * tracked by the persistence context.
+     */
+    private List<Map<String, Object>> selectFields(Set<UserField> fields, Collection<Long> ids) {
+        CriteriaQuery<Tuple> query = entityManager.getCriteriaBuilder().createTupleQuery();
+        Root<User> root = query.from(User.class);
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field.getAttribute()).alias(field.getAttribute()))
+                .toList());
+        if (ids != null)
+            query.where(root.get(UserField.ID.getAttribute()).in(ids));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (UserField field : fields)
+                        row.put(field.getAttribute(), tuple.get(field.getAttribute()));
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.douglasliebl.api.repositories;
+
+import io.github.douglasliebl.api.domain.UserTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserTombstoneRepository extends JpaRepository<UserTombstone, Long> {
+
+    List<UserTombstone> findByChangeSeqGreaterThanOrderByChangeSeqAsc(Long changeSeq, Pageable pageable);
+
+    /**
+     * Highest change sequence below the first tombstone newer than the horizon, see
+     * {@code ChangeHorizon}, or 0 when there is none.
+     */
+    @Query("select coalesce(max(t.changeSeq), 0) from UserTombstone t where t.changeSeq < coalesce("
+            + "(select min(y.changeSeq) from UserTombstone y where y.changedAt > :horizon), " + Long.MAX_VALUE + "L)")
+    long findSettledChangeSeq(@Param("horizon") LocalDateTime horizon);
+}
@@ -0,0 +1,44 @@
+package io.github.douglasliebl.api.resource;
+
+import io.github.douglasliebl.api.config.resilience.RepositoryGuardInterceptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Flags responses built from last-known values with {@code Age} and a stale
+ * {@code Warning}, see {@link RepositoryGuardInterceptor}.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(RepositoryGuardInterceptor.STALE_LOADED_AT)
+                instanceof Instant loadedAt) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.AGE, String.valueOf(Duration.between(loadedAt, Instant.now()).toSeconds()));
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.douglasliebl.api.resource;
+
+import io.github.douglasliebl.api.domain.dto.UserChangesDTO;
+import io.github.douglasliebl.api.services.UserChangeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/user/changes")
+@RequiredArgsConstructor
+public class UserChangeController {
+
+    private final UserChangeService service;
+
+    @GetMapping
+    public ResponseEntity<UserChangesDTO> findChanges(@RequestParam(defaultValue = "0") long since,
+                                                      @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.findChanges(since, limit));
+    }
+}
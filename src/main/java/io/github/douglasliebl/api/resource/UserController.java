@@ -1,6 +1,8 @@
 package io.github.douglasliebl.api.resource;
 
+import io.github.douglasliebl.api.domain.UserField;
 import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.domain.dto.UserLookupDTO;
 import io.github.douglasliebl.api.services.UserService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -11,6 +13,11 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/user")
@@ -18,6 +25,8 @@ import java.util.List;
 public class UserController {
 
     static final String ID = "/{id}";
+    static final String LOOKUP = "/lookup";
+    static final String FIELDS = "fields";
 
     private final UserService service;
     private final ModelMapper mapper;
@@ -28,6 +37,13 @@ public class UserController {
                 .body(mapper.map(service.findById(id), UserDTO.class));
     }
 
+    @GetMapping(value = ID, params = FIELDS)
+    public ResponseEntity<Map<String, Object>> findById(@PathVariable Long id,
+                                                        @RequestParam(FIELDS) String fields) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(service.findById(id, UserField.parse(fields)));
+    }
+
     @GetMapping
     public ResponseEntity<List<UserDTO>> findAllUsers() {
         return ResponseEntity.status(HttpStatus.OK)
@@ -36,6 +52,38 @@ public class UserController {
                         .map(x -> mapper.map(x, UserDTO.class)).toList());
     }
 
+    @GetMapping(params = FIELDS)
+    public ResponseEntity<List<Map<String, Object>>> findAllUsers(@RequestParam(FIELDS) String fields) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(service.findAll(UserField.parse(fields)));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserLookupDTO<UserDTO>> findAllById(@RequestParam List<Long> ids) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(lookupUsers(ids));
+    }
+
+    @GetMapping(params = {"ids", FIELDS})
+    public ResponseEntity<UserLookupDTO<Map<String, Object>>> findAllById(@RequestParam List<Long> ids,
+                                                                          @RequestParam(FIELDS) String fields) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(lookupUsers(ids, fields));
+    }
+
+    @PostMapping(value = LOOKUP)
+    public ResponseEntity<UserLookupDTO<UserDTO>> lookup(@RequestBody List<Long> ids) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(lookupUsers(ids));
+    }
+
+    @PostMapping(value = LOOKUP, params = FIELDS)
+    public ResponseEntity<UserLookupDTO<Map<String, Object>>> lookup(@RequestBody List<Long> ids,
+                                                                     @RequestParam(FIELDS) String fields) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(lookupUsers(ids, fields));
+    }
+
     @PostMapping
     public ResponseEntity<UserDTO> createUser(@RequestBody UserDTO request) {
         URI uri = ServletUriComponentsBuilder
@@ -58,4 +106,28 @@ public class UserController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private UserLookupDTO<UserDTO> lookupUsers(List<Long> ids) {
+        return lookupResult(ids, service.findAllById(ids).stream()
+                .map(x -> mapper.map(x, UserDTO.class)).toList(), UserDTO::getId);
+    }
+
+    private UserLookupDTO<Map<String, Object>> lookupUsers(List<Long> ids, String fields) {
+        return lookupResult(ids, service.findAllById(ids, UserField.parse(fields)),
+                row -> (Long) row.get(UserField.ID.getAttribute()));
+    }
+
+    private static <T> UserLookupDTO<T> lookupResult(List<Long> ids, List<T> users, Function<T, Long> idOf) {
+        Set<Long> foundIds = users.stream()
+                .map(idOf)
+                .collect(Collectors.toSet());
+
+        return UserLookupDTO.<T>builder()
+                .users(users)
+                .missing(ids.stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .filter(id -> !foundIds.contains(id)).toList())
+                .build();
+    }
 }
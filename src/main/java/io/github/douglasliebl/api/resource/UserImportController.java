@@ -0,0 +1,36 @@
+package io.github.douglasliebl.api.resource;
+
+import io.github.douglasliebl.api.domain.dto.UserImportReportDTO;
+import io.github.douglasliebl.api.services.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/user/import")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    static final String TEXT_CSV = "text/csv";
+
+    private final UserImportService service;
+
+    @PostMapping(consumes = TEXT_CSV)
+    public ResponseEntity<UserImportReportDTO> importCsv(HttpServletRequest request,
+                                                         @RequestParam(defaultValue = "0") long skip) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(service.importUsers(request.getInputStream(), UserImportService.Format.CSV, skip));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<UserImportReportDTO> importNdjson(HttpServletRequest request,
+                                                            @RequestParam(defaultValue = "0") long skip) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(service.importUsers(request.getInputStream(), UserImportService.Format.NDJSON, skip));
+    }
+}
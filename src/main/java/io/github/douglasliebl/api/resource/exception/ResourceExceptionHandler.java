@@ -1,7 +1,9 @@
 package io.github.douglasliebl.api.resource.exception;
 
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
 import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
 import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,4 +26,16 @@ public class ResourceExceptionHandler {
         StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), e.getMessage(), request.getRequestURI());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<StandardError> handleBadRequestException(BadRequestException e, HttpServletRequest request) {
+        StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<StandardError> handleServiceUnavailableException(ServiceUnavailableException e, HttpServletRequest request) {
+        StandardError error = new StandardError(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
 }
@@ -0,0 +1,38 @@
+package io.github.douglasliebl.api.resource.grpc;
+
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
+import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC counterpart of {@code ResourceExceptionHandler}: turns the service exceptions
+ * into the status codes matching their REST statuses. Anything else is logged and
+ * reported as INTERNAL without its message.
+ */
+@Slf4j
+final class GrpcExceptionHandler {
+
+    private GrpcExceptionHandler() {
+    }
+
+    static StatusRuntimeException handle(RuntimeException e) {
+        Status status;
+        if (e instanceof ObjectNotFoundException)
+            status = Status.NOT_FOUND;
+        else if (e instanceof DataIntegrityViolationException)
+            status = Status.ALREADY_EXISTS;
+        else if (e instanceof BadRequestException)
+            status = Status.INVALID_ARGUMENT;
+        else if (e instanceof ServiceUnavailableException)
+            status = Status.UNAVAILABLE;
+        else {
+            log.error("grpc call failed", e);
+            return Status.INTERNAL.withDescription("Internal error").asRuntimeException();
+        }
+        return status.withDescription(e.getMessage()).asRuntimeException();
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.douglasliebl.api.resource.grpc;
+
+import com.google.protobuf.Empty;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.grpc.*;
+import io.github.douglasliebl.api.services.UserService;
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC transport for the same {@link UserService} operations as {@code UserController},
+ * see user.proto. Passwords are accepted on writes and never returned.
+ */
+@RequiredArgsConstructor
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    static final int DEFAULT_PAGE_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final UserService service;
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<UserReply> observer) {
+        unary(observer, () -> reply(service.findById(request.getId())));
+    }
+
+    @Override
+    public void createUser(UserRequest request, StreamObserver<UserReply> observer) {
+        unary(observer, () -> reply(service.create(dto(request, null))));
+    }
+
+    @Override
+    public void updateUser(UserRequest request, StreamObserver<UserReply> observer) {
+        unary(observer, () -> {
+            if (request.getId() <= 0)
+                throw new BadRequestException("Id is required");
+            return reply(service.update(dto(request, request.getId())));
+        });
+    }
+
+    @Override
+    public void deleteUser(DeleteUserRequest request, StreamObserver<Empty> observer) {
+        unary(observer, () -> {
+            service.delete(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<BatchGetUsersReply> observer) {
+        unary(observer, () -> {
+            List<User> users = service.findAllById(request.getIdsList());
+            Set<Long> foundIds = users.stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+
+            return BatchGetUsersReply.newBuilder()
+                    .addAllUsers(users.stream().map(UserGrpcService::reply).toList())
+                    .addAllMissing(request.getIdsList().stream()
+                            .distinct()
+                            .filter(id -> !foundIds.contains(id)).toList())
+                    .build();
+        });
+    }
+
+    /**
+     * Streams users one keyset page per message, reading the next page only while the
+     * transport is ready for more, so a slow client holds back the database reads
+     * instead of letting replies pile up in memory. Pages rather than single users keep
+     * the per-message framing and flush off the hot path.
+     */
+    @Override
+    public void listUsers(ListUsersRequest request, StreamObserver<UserPage> observer) {
+        int pageSize = request.getPageSize() <= 0
+                ? DEFAULT_PAGE_SIZE
+                : Math.min(request.getPageSize(), MAX_PAGE_SIZE);
+
+        ServerCallStreamObserver<UserPage> call = (ServerCallStreamObserver<UserPage>) observer;
+        call.setOnCancelHandler(() -> { });
+        call.setOnReadyHandler(new UserStream(call, pageSize));
+    }
+
+    private static <T> void unary(StreamObserver<T> observer, Supplier<T> call) {
+        T reply;
+        try {
+            reply = call.get();
+        } catch (RuntimeException e) {
+            observer.onError(GrpcExceptionHandler.handle(e));
+            return;
+        }
+        observer.onNext(reply);
+        observer.onCompleted();
+    }
+
+    private static UserReply reply(User user) {
+        UserReply.Builder reply = UserReply.newBuilder().setId(user.getId());
+        if (user.getName() != null)
+            reply.setName(user.getName());
+        if (user.getEmail() != null)
+            reply.setEmail(user.getEmail());
+        return reply.build();
+    }
+
+    private static UserDTO dto(UserRequest request, Long id) {
+        return UserDTO.builder()
+                .id(id)
+                .name(emptyToNull(request.getName()))
+                .email(emptyToNull(request.getEmail()))
+                .password(emptyToNull(request.getPassword())).build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * On-ready handler of a {@code ListUsers} call. gRPC never runs it concurrently for
+     * the same call, so its cursor needs no locking.
+     */
+    private final class UserStream implements Runnable {
+
+        private final ServerCallStreamObserver<UserPage> call;
+        private final int pageSize;
+        private long cursor;
+        private boolean done;
+
+        UserStream(ServerCallStreamObserver<UserPage> call, int pageSize) {
+            this.call = call;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public void run() {
+            if (done)
+                return;
+
+            try {
+                while (call.isReady() && !call.isCancelled()) {
+                    List<User> users = service.findAllAfter(cursor, pageSize);
+                    if (!users.isEmpty()) {
+                        cursor = users.get(users.size() - 1).getId();
+                        call.onNext(UserPage.newBuilder()
+                                .addAllUsers(users.stream().map(UserGrpcService::reply).toList())
+                                .build());
+                    }
+                    if (users.size() < pageSize) {
+                        done = true;
+                        call.onCompleted();
+                        return;
+                    }
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                call.onError(GrpcExceptionHandler.handle(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.douglasliebl.api.services;
+
+import io.github.douglasliebl.api.domain.dto.UserChangesDTO;
+
+public interface UserChangeService {
+
+    UserChangesDTO findChanges(long since, int limit);
+}
@@ -0,0 +1,13 @@
+package io.github.douglasliebl.api.services;
+
+import io.github.douglasliebl.api.domain.dto.UserImportReportDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+
+    enum Format { CSV, NDJSON }
+
+    UserImportReportDTO importUsers(InputStream input, Format format, long skip) throws IOException;
+}
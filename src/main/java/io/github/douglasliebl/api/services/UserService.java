@@ -1,9 +1,12 @@
 package io.github.douglasliebl.api.services;
 
 import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
 import io.github.douglasliebl.api.domain.dto.UserDTO;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface UserService {
 
@@ -11,6 +14,16 @@ public interface UserService {
 
     List<User> findAll();
 
+    List<User> findAllById(List<Long> ids);
+
+    List<User> findAllAfter(Long id, int limit);
+
+    Map<String, Object> findById(Long id, Set<UserField> fields);
+
+    List<Map<String, Object>> findAll(Set<UserField> fields);
+
+    List<Map<String, Object>> findAllById(List<Long> ids, Set<UserField> fields);
+
     User create(UserDTO request);
 
     User update(UserDTO request);
@@ -0,0 +1,48 @@
+package io.github.douglasliebl.api.services.changes;
+
+import io.github.douglasliebl.api.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Safe watermark for reading changes by change sequence. Sequence values are taken
+ * inside the writing transaction, so a write can commit after a higher value is
+ * already visible, and a reader that moved its cursor past the higher value would
+ * skip it for good.
+ * <p>
+ * Every change is stamped with the start time of its transaction. A write that took
+ * a lower value than a visible change started at most one write duration after that
+ * change's transaction, and commits at most one more write duration later. So once a
+ * change is older than {@link ChangeSyncProperties#getSettleLag()}, with the lag at
+ * least twice the longest write transaction, every lower value has committed or will
+ * never appear. Readers therefore stop at the first change newer than the horizon.
+ * <p>
+ * The bound on write transactions is enforced by the default transaction timeout,
+ * which {@code ChangeSyncConfig} caps at half the settle lag. The timeout cuts off
+ * statements, not the commit, so write paths commit right after their last statement:
+ * every write runs in its own repository transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeHorizon {
+
+    private final UserRepository repository;
+    private final ChangeSyncProperties properties;
+
+    /**
+     * Current horizon by database clock, so it does not depend on the clock of this node.
+     */
+    public LocalDateTime current() {
+        return repository.findDatabaseTime().minus(properties.getSettleLag());
+    }
+
+    /**
+     * Whether a change stamped at the given time can be handed out. Rows written before
+     * changes were timestamped have none and are settled.
+     */
+    public static boolean isSettled(LocalDateTime changedAt, LocalDateTime horizon) {
+        return changedAt == null || !changedAt.isAfter(horizon);
+    }
+}
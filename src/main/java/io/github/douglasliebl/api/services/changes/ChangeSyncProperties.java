@@ -0,0 +1,20 @@
+package io.github.douglasliebl.api.services.changes;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.changes")
+public class ChangeSyncProperties {
+
+    /**
+     * How old a change must be, by database time, before it is handed out by delta sync
+     * or tailed into the read model. Must be at least twice the longest write
+     * transaction, see {@link ChangeHorizon}, so the default transaction timeout is
+     * capped at half of it. A {@code @Transactional(timeout)} on a write path must stay
+     * below that cap too.
+     */
+    private Duration settleLag = Duration.ofSeconds(60);
+}
@@ -0,0 +1,8 @@
+package io.github.douglasliebl.api.services.exceptions;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
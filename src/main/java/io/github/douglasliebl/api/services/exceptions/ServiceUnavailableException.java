@@ -0,0 +1,8 @@
+package io.github.douglasliebl.api.services.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.douglasliebl.api.services.impl;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import io.github.douglasliebl.api.domain.dto.UserChangesDTO;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.repositories.UserTombstoneRepository;
+import io.github.douglasliebl.api.services.UserChangeService;
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the users created, updated or deleted after a sync token, which is simply
+ * the last change sequence the caller has seen. Upserts and tombstones are read by
+ * keyset on their change_seq index and merged in sequence order, so the cost of a
+ * sync follows the number of changes rather than the size of tb_user.
+ * <p>
+ * The token never moves past a change newer than the {@link ChangeHorizon}, so a
+ * write that took a lower sequence value but commits after a higher one was read is
+ * still returned by the next sync. Changes therefore reach callers once they are
+ * older than the configured settle lag.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserChangeServiceImpl implements UserChangeService {
+
+    static final int MAX_LIMIT = 1000;
+    static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final UserRepository repository;
+    private final UserTombstoneRepository tombstoneRepository;
+    private final ModelMapper mapper;
+    private final ChangeHorizon changeHorizon;
+
+    /**
+     * Reads both tables from one snapshot, otherwise an update committed between the
+     * two queries could fall below the returned token. Stops at the first change newer
+     * than the horizon, reporting no more changes so callers wait for their next sync.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public UserChangesDTO findChanges(long since, int limit) {
+        if (since < 0)
+            throw new BadRequestException("Invalid sync token");
+
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        LocalDateTime horizon = changeHorizon.current();
+        PageRequest page = PageRequest.ofSize(size + 1);
+        List<User> changed = repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+        List<UserTombstone> removed = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+
+        List<UserDTO> users = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long token = since;
+        int u = 0;
+        int t = 0;
+        boolean settled = true;
+
+        while (users.size() + deleted.size() < size && (u < changed.size() || t < removed.size())) {
+            if (t == removed.size()
+                    || u < changed.size() && changed.get(u).getChangeSeq() < removed.get(t).getChangeSeq()) {
+                User user = changed.get(u);
+                settled = ChangeHorizon.isSettled(user.getChangedAt(), horizon);
+                if (!settled)
+                    break;
+                users.add(mapper.map(user, UserDTO.class));
+                token = user.getChangeSeq();
+                u++;
+            } else {
+                UserTombstone tombstone = removed.get(t);
+                settled = ChangeHorizon.isSettled(tombstone.getChangedAt(), horizon);
+                if (!settled)
+                    break;
+                deleted.add(tombstone.getUserId());
+                token = tombstone.getChangeSeq();
+                t++;
+            }
+        }
+
+        return UserChangesDTO.builder()
+                .users(users)
+                .deleted(deleted)
+                .token(token)
+                .hasMore(settled && (u < changed.size() || t < removed.size())).build();
+    }
+
+    /**
+     * Backfills change_seq in batches of {@link #BACKFILL_BATCH_SIZE} rows, each in its
+     * own transaction, so no single update outlives the statement timeouts and the rows
+     * done before a failure stay done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        try {
+            int rows;
+            while ((rows = repository.backfillChangeSeq(BACKFILL_BATCH_SIZE)) > 0)
+                total += rows;
+            if (total > 0)
+                log.info("user_changes backfilled change_seq rows={}", total);
+        } catch (DataAccessException | ServiceUnavailableException e) {
+            log.warn("user_changes backfill failed after rows={}, retried on next start", total, e);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package io.github.douglasliebl.api.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.domain.dto.UserImportErrorDTO;
+import io.github.douglasliebl.api.domain.dto.UserImportReportDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.UserImportService;
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Imports users from a CSV or NDJSON stream one line at a time. Rows are written in
+ * chunks of {@link #CHUNK_SIZE}, each deduplicated in memory and against the database
+ * with a single query, then inserted as one JDBC batch in its own transaction. The
+ * body is only read as fast as chunks are written, so memory stays bounded by the
+ * chunk size whatever the input size, and a single line never buffers more than
+ * {@link #MAX_LINE_LENGTH} characters.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    static final int PROGRESS_LOG_CHUNKS = 100;
+    static final int MAX_LINE_LENGTH = 8192;
+
+    private final UserRepository repository;
+    private final ObjectReader userReader;
+
+    public UserImportServiceImpl(UserRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.userReader = objectMapper.readerFor(UserDTO.class);
+    }
+
+    @Override
+    public UserImportReportDTO importUsers(InputStream input, Format format, long skip) throws IOException {
+        long start = System.nanoTime();
+        UserImportReportDTO report = UserImportReportDTO.builder().checkpoint(skip).build();
+        LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), MAX_LINE_LENGTH);
+
+        Map<String, Integer> columns = format == Format.CSV ? readCsvHeader(reader) : null;
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rowNumber = 0;
+        long chunks = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank())
+                continue;
+            if (++rowNumber <= skip)
+                continue;
+
+            report.setRowsRead(report.getRowsRead() + 1);
+            UserDTO user = reader.tooLong()
+                    ? reject(report, rowNumber, "Row too long")
+                    : parse(line, format, columns, rowNumber, report);
+            if (user != null)
+                chunk.add(new Row(rowNumber, user));
+
+            if (chunk.size() == CHUNK_SIZE) {
+                if (!writeChunk(chunk, rowNumber, report))
+                    return finish(report, start);
+                if (++chunks % PROGRESS_LOG_CHUNKS == 0)
+                    log.info("user_import progress checkpoint={} imported={} rejected={}",
+                            report.getCheckpoint(), report.getImported(), report.getRejected());
+            }
+        }
+
+        if (writeChunk(chunk, rowNumber, report))
+            report.setCompleted(true);
+        return finish(report, start);
+    }
+
+    private Map<String, Integer> readCsvHeader(LineReader reader) throws IOException {
+        String header = reader.readLine();
+        Map<String, Integer> columns = new HashMap<>();
+        if (header == null)
+            return columns;
+        if (reader.tooLong())
+            throw new BadRequestException("CSV header is too long");
+
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++)
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+
+        if (!columns.containsKey("name") || !columns.containsKey("email"))
+            throw new BadRequestException("CSV header must contain name and email columns");
+        return columns;
+    }
+
+    private UserDTO parse(String line, Format format, Map<String, Integer> columns,
+                          long rowNumber, UserImportReportDTO report) {
+        UserDTO user;
+        if (format == Format.CSV) {
+            List<String> fields = splitCsv(line);
+            user = UserDTO.builder()
+                    .name(field(fields, columns.get("name")))
+                    .email(field(fields, columns.get("email")))
+                    .password(field(fields, columns.get("password"))).build();
+        } else {
+            try {
+                user = userReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                return reject(report, rowNumber, "Malformed row");
+            }
+            if (user == null)
+                return reject(report, rowNumber, "Malformed row");
+        }
+
+        if (user.getName() == null || user.getName().isBlank())
+            return reject(report, rowNumber, "Name is required");
+        if (user.getEmail() == null || !user.getEmail().contains("@"))
+            return reject(report, rowNumber, "Invalid email");
+        return user;
+    }
+
+    private boolean writeChunk(List<Row> chunk, long lastRowNumber, UserImportReportDTO report) {
+        Map<String, Row> byEmail = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (byEmail.putIfAbsent(row.user().getEmail(), row) != null)
+                reject(report, row.number(), "Duplicate email in import");
+        }
+
+        try {
+            List<User> users = new ArrayList<>(byEmail.size());
+            if (!byEmail.isEmpty()) {
+                Set<String> existing = repository.findExistingEmails(byEmail.keySet());
+                for (Row row : byEmail.values()) {
+                    if (existing.contains(row.user().getEmail())) {
+                        reject(report, row.number(), "Email already used");
+                        continue;
+                    }
+                    users.add(User.builder()
+                            .name(row.user().getName())
+                            .email(row.user().getEmail())
+                            .password(row.user().getPassword()).build());
+                }
+            }
+            if (!users.isEmpty())
+                repository.batchInsert(users);
+
+            report.setImported(report.getImported() + users.size());
+            report.setCheckpoint(Math.max(report.getCheckpoint(), lastRowNumber));
+            chunk.clear();
+            return true;
+        } catch (DataAccessException | ServiceUnavailableException e) {
+            log.warn("user_import chunk failed checkpoint={}", report.getCheckpoint(), e);
+            report.setFailure("Import stopped after row " + report.getCheckpoint() + ": "
+                    + (e instanceof DataAccessException dataAccess
+                    ? dataAccess.getMostSpecificCause().getMessage()
+                    : e.getMessage()));
+            return false;
+        }
+    }
+
+    private UserImportReportDTO finish(UserImportReportDTO report, long start) {
+        long elapsedNanos = System.nanoTime() - start;
+        report.setDurationMillis(elapsedNanos / 1_000_000);
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0 : report.getRowsRead() * 1_000_000_000 / elapsedNanos);
+        log.info("user_import finished completed={} rows={} imported={} rejected={} rows_per_second={}",
+                report.isCompleted(), report.getRowsRead(), report.getImported(),
+                report.getRejected(), report.getRowsPerSecond());
+        return report;
+    }
+
+    /**
+     * Records the row as rejected and returns {@code null}, so parsing can reject with
+     * a single statement.
+     */
+    private UserDTO reject(UserImportReportDTO report, long rowNumber, String reason) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS)
+            report.getErrors().add(new UserImportErrorDTO(rowNumber, reason));
+        return null;
+    }
+
+    private static String field(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size())
+            return null;
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits a single CSV line, honouring double-quoted fields and {@code ""} escapes.
+     * Quoted fields spanning several lines are not supported.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"')
+                    field.append(line.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record Row(long number, UserDTO user) {
+    }
+
+    /**
+     * Splits a character stream into lines like {@link java.io.BufferedReader#readLine()}
+     * on {@code \n} or {@code \r\n}, but keeps at most {@code maxLength} characters of
+     * a line. The rest of a longer line is read and dropped, and {@link #tooLong()}
+     * reports it, so a body without line breaks cannot grow the buffer unbounded.
+     */
+    static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Returns the next line without its terminator, truncated to the maximum length,
+         * or {@code null} at the end of the stream.
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0)
+                        return read ? finish() : null;
+                }
+                read = true;
+
+                int start = position;
+                while (position < limit && buffer[position] != '\n')
+                    position++;
+                append(start, position);
+                if (position < limit) {
+                    position++;
+                    return finish();
+                }
+            }
+        }
+
+        /**
+         * Whether the line last returned by {@link #readLine()} was truncated.
+         */
+        boolean tooLong() {
+            return tooLong;
+        }
+
+        private void append(int start, int end) {
+            // one extra character so a trailing \r does not count against the limit
+            int room = maxLength + 1 - line.length();
+            int count = end - start;
+            if (count > room) {
+                tooLong = true;
+                count = room;
+            }
+            line.append(buffer, start, count);
+        }
+
+        private String finish() {
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r')
+                line.setLength(--length);
+            if (length > maxLength) {
+                tooLong = true;
+                line.setLength(maxLength);
+            }
+            return line.toString();
+        }
+    }
+}
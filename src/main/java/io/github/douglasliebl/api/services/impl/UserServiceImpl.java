@@ -1,58 +1,161 @@
 package io.github.douglasliebl.api.services.impl;
 
 import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
 import io.github.douglasliebl.api.domain.dto.UserDTO;
 import io.github.douglasliebl.api.repositories.UserRepository;
 import io.github.douglasliebl.api.services.UserService;
 import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
 import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.github.douglasliebl.api.services.readmodel.UserReadModel;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
     private final UserRepository repository;
     private final ModelMapper mapper;
+    private final UserReadModel readModel;
 
     @Override
     public User findById(Long id) {
-        Optional<User> response = repository.findById(id);
+        Optional<User> response = readModel.isServing()
+                ? readModel.findById(id)
+                : repository.findById(id);
         return response.orElseThrow(() -> new ObjectNotFoundException("Object not found"));
     }
 
     @Override
     public List<User> findAll() {
-        return repository.findAll();
+        return readModel.isServing() ? readModel.findAll() : repository.findAll();
+    }
+
+    /**
+     * Returns the users found for the given ids in request order, silently skipping
+     * unknown ids. Ids are queried in chunks to keep each {@code IN} list bounded.
+     */
+    @Override
+    public List<User> findAllById(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (readModel.isServing())
+            return readModel.findAllById(distinctIds);
+
+        return findInChunks(distinctIds, repository::findAllById, User::getId);
+    }
+
+    /**
+     * Returns the next keyset page of users ordered by id, always from the database
+     * since the read model keeps no id order.
+     */
+    @Override
+    public List<User> findAllAfter(Long id, int limit) {
+        return repository.findByIdGreaterThanOrderByIdAsc(id, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public Map<String, Object> findById(Long id, Set<UserField> fields) {
+        List<Map<String, Object>> response = findAllById(List.of(id), fields);
+        if (response.isEmpty())
+            throw new ObjectNotFoundException("Object not found");
+        return response.get(0);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAll(Set<UserField> fields) {
+        if (readModel.isServing())
+            return readModel.findAll().stream().map(user -> UserField.project(user, fields)).toList();
+        return repository.findFields(fields);
+    }
+
+    /**
+     * Sparse variant of {@link #findAllById(List)}, selecting only the given columns.
+     */
+    @Override
+    public List<Map<String, Object>> findAllById(List<Long> ids, Set<UserField> fields) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (readModel.isServing())
+            return readModel.findAllById(distinctIds).stream().map(user -> UserField.project(user, fields)).toList();
+
+        return findInChunks(distinctIds, chunk -> repository.findFieldsByIds(fields, chunk),
+                row -> row.get(UserField.ID.getAttribute()));
     }
 
     @Override
     public User create(UserDTO request) {
         emailVerify(request);
-        return repository.save(mapper.map(request, User.class));
+        User user = save(mapper.map(request, User.class));
+        readModel.put(user);
+        return user;
     }
 
     @Override
     public User update(UserDTO request) {
         emailVerify(request);
-        return repository.save(mapper.map(request, User.class));
+        User user = save(mapper.map(request, User.class));
+        readModel.put(user);
+        return user;
     }
 
     @Override
     public void delete(Long id) {
         findById(id);
-        repository.deleteById(id);
+        repository.deleteWithTombstone(id);
+        readModel.remove(id);
     }
 
+    /**
+     * Runs the query once per chunk of at most {@link #LOOKUP_CHUNK_SIZE} ids and returns
+     * the results in the order of the given distinct ids.
+     */
+    private static <T> List<T> findInChunks(List<Long> distinctIds, Function<List<Long>, List<T>> query,
+                                            Function<T, Object> idOf) {
+        Map<Object, T> found = new HashMap<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, distinctIds.size());
+            query.apply(distinctIds.subList(from, to))
+                    .forEach(result -> found.put(idOf.apply(result), result));
+        }
+
+        return distinctIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Checked against the database, not the read model, which may lag behind a user
+     * created on another node.
+     */
     private void emailVerify(UserDTO request) {
         Optional<User> user = repository.findByEmail(request.getEmail());
 
         if(user.isPresent() && !user.get().getId().equals(request.getId()))
             throw new DataIntegrityViolationException("Email already used");
     }
+
+    /**
+     * Saves the user, reporting a write that lost the race for its email to a
+     * concurrent one like {@link #emailVerify(UserDTO)} does.
+     */
+    private User save(User user) {
+        try {
+            return repository.save(user);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw new DataIntegrityViolationException("Email already used");
+        }
+    }
 }
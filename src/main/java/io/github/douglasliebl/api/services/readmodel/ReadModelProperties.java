@@ -0,0 +1,32 @@
+package io.github.douglasliebl.api.services.readmodel;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "api.read-model")
+public class ReadModelProperties {
+
+    /**
+     * Whether reads are served from the in-memory copy of tb_user once it is loaded.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Rows fetched per keyset page while loading or tailing the table.
+     */
+    private int pageSize = 1000;
+
+    /**
+     * How often rows and tombstones written by other nodes are tailed by change sequence.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(5);
+
+    /**
+     * How often the whole table is reloaded, as a backstop for writes the tail missed
+     * because they committed after a higher change sequence.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,234 @@
+package io.github.douglasliebl.api.services.readmodel;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.repositories.UserTombstoneRepository;
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Optional in-memory copy of tb_user, see {@link ReadModelProperties}. It is loaded
+ * once the application is ready, retried by every refresh until that succeeds, and
+ * kept current by:
+ * <ul>
+ *     <li>write-through of the changes made by this node's {@code UserService}</li>
+ *     <li>a periodic tail of rows and tombstones with a change sequence above the last one seen,
+ *     up to the {@link ChangeHorizon}</li>
+ *     <li>a periodic full reload, as a backstop for writes the tail missed</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserReadModel {
+
+    private final UserRepository repository;
+    private final UserTombstoneRepository tombstoneRepository;
+    private final ReadModelProperties properties;
+    private final ChangeHorizon changeHorizon;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private UserTable table = new UserTable();
+    private List<Consumer<UserTable>> pendingWrites;
+    private long changeCursor;
+    private long tombstoneCursor;
+    private volatile boolean loadRequested;
+    private volatile boolean loaded;
+
+    public boolean isServing() {
+        return properties.isEnabled() && loaded;
+    }
+
+    public Optional<User> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(table.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<User> findAll() {
+        lock.readLock().lock();
+        try {
+            return table.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<User> findAllById(List<Long> ids) {
+        List<User> users = new ArrayList<>(ids.size());
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                User user = table.get(id);
+                if (user != null)
+                    users.add(user);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return users;
+    }
+
+    public void put(User user) {
+        if (properties.isEnabled())
+            write(target -> target.put(user));
+    }
+
+    public void remove(Long id) {
+        if (properties.isEnabled())
+            write(target -> target.remove(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadRequested = true;
+        try {
+            reload();
+        } catch (DataAccessException | ServiceUnavailableException e) {
+            log.warn("read_model load failed, retried on the next refresh", e);
+        }
+    }
+
+    /**
+     * Rebuilds the table off-lock and swaps it in, replaying the local writes that
+     * happened meanwhile so they are not lost to pages read before they committed. The
+     * tail resumes from the settled change sequences, since a lower value than the
+     * highest one may still be uncommitted when the pages are read.
+     */
+    public synchronized void reload() {
+        if (!properties.isEnabled())
+            return;
+
+        long start = System.nanoTime();
+        UserTable fresh;
+        lock.writeLock().lock();
+        try {
+            fresh = new UserTable(table.size());
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long changes;
+        long tombstones;
+        try {
+            LocalDateTime horizon = changeHorizon.current();
+            changes = repository.findSettledChangeSeq(horizon);
+            tombstones = tombstoneRepository.findSettledChangeSeq(horizon);
+            readAll(fresh::put);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingWrites = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingWrites.forEach(change -> change.accept(fresh));
+            pendingWrites = null;
+            table = fresh;
+            changeCursor = Math.max(changeCursor, changes);
+            tombstoneCursor = Math.max(tombstoneCursor, tombstones);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loaded = true;
+
+        long bytes = fresh.estimatedBytes();
+        log.info("read_model loaded users={} estimated_bytes={} bytes_per_user={} load_ms={}",
+                fresh.size(), bytes, fresh.size() == 0 ? 0 : bytes / fresh.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies the rows and tombstones written since the last refresh, up to the first
+     * one newer than the horizon. Each keeps its own cursor, so a change committed
+     * between the two reads is not skipped. Until a load has succeeded, it loads the
+     * table instead, so a database that was down at start-up is not left waiting for
+     * the next full reload.
+     */
+    public synchronized void refresh() {
+        if (!properties.isEnabled())
+            return;
+        if (!loaded) {
+            if (loadRequested)
+                reload();
+            return;
+        }
+
+        LocalDateTime horizon = changeHorizon.current();
+        PageRequest page = PageRequest.ofSize(properties.getPageSize());
+        boolean settled = true;
+        List<User> users;
+        do {
+            users = repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(changeCursor, page);
+            for (User user : users) {
+                settled = ChangeHorizon.isSettled(user.getChangedAt(), horizon);
+                if (!settled)
+                    break;
+                write(target -> target.put(user));
+                changeCursor = user.getChangeSeq();
+            }
+        } while (settled && users.size() == page.getPageSize());
+
+        settled = true;
+        List<UserTombstone> tombstones;
+        do {
+            tombstones = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(tombstoneCursor, page);
+            for (UserTombstone tombstone : tombstones) {
+                settled = ChangeHorizon.isSettled(tombstone.getChangedAt(), horizon);
+                if (!settled)
+                    break;
+                write(target -> target.remove(tombstone.getUserId()));
+                tombstoneCursor = tombstone.getChangeSeq();
+            }
+        } while (settled && tombstones.size() == page.getPageSize());
+    }
+
+    private void readAll(Consumer<User> consumer) {
+        PageRequest page = PageRequest.ofSize(properties.getPageSize());
+        long cursor = 0;
+        List<User> users;
+        do {
+            users = repository.findByIdGreaterThanOrderByIdAsc(cursor, page);
+            for (User user : users) {
+                consumer.accept(user);
+                cursor = user.getId();
+            }
+        } while (users.size() == page.getPageSize());
+    }
+
+    private void write(Consumer<UserTable> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(table);
+            if (pendingWrites != null)
+                pendingWrites.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.github.douglasliebl.api.services.readmodel;
+
+import io.github.douglasliebl.api.domain.User;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, single-writer store of users. Each user lives in a dense slot holding its
+ * id and one packed UTF-8 {@code byte[]} with name, email and password, instead of an
+ * entity plus three {@link String}s. Ids are resolved to slots through an
+ * open-addressing {@code int[]} table, so no boxed keys or map entries are kept.
+ * Not thread-safe, {@link UserReadModel} guards it.
+ */
+final class UserTable {
+
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] ids;
+    private byte[][] records;
+    private int size;
+
+    private final SlotIndex idIndex = new SlotIndex() {
+        @Override
+        int hashOfSlot(int slot) {
+            return hashId(ids[slot]);
+        }
+    };
+
+    UserTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    UserTable(int expectedSize) {
+        int capacity = Math.max(INITIAL_CAPACITY, expectedSize);
+        ids = new long[capacity];
+        records = new byte[capacity][];
+        idIndex.resize(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    User get(long id) {
+        int slot = slotOf(id);
+        return slot < 0 ? null : decode(slot);
+    }
+
+    List<User> toList() {
+        List<User> users = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++)
+            users.add(decode(slot));
+        return users;
+    }
+
+    void put(User user) {
+        long id = user.getId();
+        byte[] record = encode(user);
+        int slot = slotOf(id);
+
+        if (slot < 0) {
+            if (size == ids.length)
+                grow();
+            slot = size++;
+            ids[slot] = id;
+            idIndex.add(slot);
+        }
+
+        records[slot] = record;
+    }
+
+    void remove(long id) {
+        int slot = slotOf(id);
+        if (slot < 0)
+            return;
+
+        idIndex.remove(slot);
+
+        int last = --size;
+        if (slot != last) {
+            idIndex.move(last, slot);
+            ids[slot] = ids[last];
+            records[slot] = records[last];
+        }
+        records[last] = null;
+    }
+
+    /**
+     * Approximate heap footprint in bytes, for sizing and comparison with the JPA path.
+     */
+    long estimatedBytes() {
+        long bytes = (long) ids.length * (Long.BYTES + Integer.BYTES)
+                + (long) idIndex.table.length * Integer.BYTES;
+        for (int slot = 0; slot < size; slot++)
+            bytes += 16 + records[slot].length;
+        return bytes;
+    }
+
+    private int slotOf(long id) {
+        int mask = idIndex.table.length - 1;
+        for (int i = hashId(id) & mask; idIndex.table[i] != 0; i = (i + 1) & mask) {
+            int slot = idIndex.table[i] - 1;
+            if (ids[slot] == id)
+                return slot;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        records = Arrays.copyOf(records, capacity);
+        idIndex.resize(capacity);
+    }
+
+    private User decode(int slot) {
+        byte[] record = records[slot];
+        int nameEnd = 2 + length(record, 0);
+        int emailEnd = nameEnd + 2 + length(record, nameEnd);
+
+        return User.builder()
+                .id(ids[slot])
+                .name(string(record, 0))
+                .email(string(record, nameEnd))
+                .password(string(record, emailEnd)).build();
+    }
+
+    private static byte[] encode(User user) {
+        byte[] name = bytes(user.getName());
+        byte[] email = bytes(user.getEmail());
+        byte[] password = bytes(user.getPassword());
+        byte[] record = new byte[6 + length(name) + length(email) + length(password)];
+
+        int offset = write(record, 0, name);
+        offset = write(record, offset, email);
+        write(record, offset, password);
+        return record;
+    }
+
+    private static byte[] bytes(String value) {
+        if (value == null)
+            return null;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_LENGTH)
+            throw new IllegalArgumentException("Field too long for the read model");
+        return bytes;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int write(byte[] record, int offset, byte[] field) {
+        int length = field == null ? NULL_LENGTH : field.length;
+        record[offset] = (byte) (length >>> 8);
+        record[offset + 1] = (byte) length;
+        if (field != null)
+            System.arraycopy(field, 0, record, offset + 2, field.length);
+        return offset + 2 + length(field);
+    }
+
+    private static int length(byte[] record, int offset) {
+        int length = ((record[offset] & 0xFF) << 8) | (record[offset + 1] & 0xFF);
+        return length == NULL_LENGTH ? 0 : length;
+    }
+
+    private static String string(byte[] record, int offset) {
+        int length = ((record[offset] & 0xFF) << 8) | (record[offset + 1] & 0xFF);
+        return length == NULL_LENGTH ? null : new String(record, offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static int hashId(long id) {
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Linear-probing table of {@code slot + 1} entries (0 marks a free bucket), kept at
+     * most half full and compacted with backward-shift deletion.
+     */
+    private abstract static class SlotIndex {
+
+        int[] table = new int[0];
+
+        abstract int hashOfSlot(int slot);
+
+        void resize(int slots) {
+            int[] old = table;
+            table = new int[Integer.highestOneBit(slots * 2 - 1) << 1];
+            for (int entry : old)
+                if (entry != 0)
+                    add(entry - 1);
+        }
+
+        void add(int slot) {
+            int mask = table.length - 1;
+            int i = hashOfSlot(slot) & mask;
+            while (table[i] != 0)
+                i = (i + 1) & mask;
+            table[i] = slot + 1;
+        }
+
+        void move(int from, int to) {
+            int bucket = bucketOf(from);
+            if (bucket >= 0)
+                table[bucket] = to + 1;
+        }
+
+        void remove(int slot) {
+            int bucket = bucketOf(slot);
+            if (bucket < 0)
+                return;
+
+            int mask = table.length - 1;
+            int hole = bucket;
+            for (int i = (hole + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+                int home = hashOfSlot(table[i] - 1) & mask;
+                boolean reachable = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+                if (!reachable) {
+                    table[hole] = table[i];
+                    hole = i;
+                }
+            }
+            table[hole] = 0;
+        }
+
+        private int bucketOf(int slot) {
+            int mask = table.length - 1;
+            for (int i = hashOfSlot(slot) & mask; table[i] != 0; i = (i + 1) & mask)
+                if (table[i] == slot + 1)
+                    return i;
+            return -1;
+        }
+    }
+}
@@ -3,12 +3,12 @@ package io.github.douglasliebl.api;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "api.grpc.port=0")
 class ApiApplicationTests {
 
 	@Test
 	void contextLoads() {
-		ApiApplication.main(new String[] {});
+		ApiApplication.main(new String[] {"--api.grpc.port=0", "--server.port=0"});
 	}
 
 }
@@ -0,0 +1,132 @@
+package io.github.douglasliebl.api.benchmark;
+
+import io.github.douglasliebl.api.ApiApplication;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.repositories.UserTombstoneRepository;
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import io.github.douglasliebl.api.services.readmodel.ReadModelProperties;
+import io.github.douglasliebl.api.services.readmodel.UserReadModel;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * Compares the in-memory read model with the JPA path on the configured database: heap
+ * retained per user, and single-threaded lookup latency by id. Not a unit test, run it
+ * with the test classpath, e.g.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.github.douglasliebl.api.benchmark.ReadModelBenchmark \
+ *     -Dexec.args="users=100000 lookups=200000 jpa-lookups=20000"
+ * </pre>
+ * Users are inserted first until the table holds at least {@code users} rows. Heap is measured as the used heap after a full GC
+ * before and after loading, so it includes every object the copy keeps alive.
+ */
+public final class ReadModelBenchmark {
+
+    private ReadModelBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        int users = Integer.parseInt(options.getOrDefault("users", "100000"));
+        int lookups = Integer.parseInt(options.getOrDefault("lookups", "200000"));
+        int jpaLookups = Integer.parseInt(options.getOrDefault("jpa-lookups", "20000"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--api.grpc.enabled=false", "--api.warmup.enabled=false", "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            UserRepository repository = context.getBean(UserRepository.class);
+            seed(repository, users);
+
+            ReadModelProperties properties = new ReadModelProperties();
+            properties.setEnabled(true);
+            UserReadModel readModel = new UserReadModel(repository,
+                    context.getBean(UserTombstoneRepository.class), properties, context.getBean(ChangeHorizon.class));
+
+            long before = usedHeap();
+            readModel.reload();
+            long readModelBytes = usedHeap() - before;
+            List<User> all = readModel.findAll();
+            long[] ids = all.stream().mapToLong(User::getId).toArray();
+            all = null;
+
+            before = usedHeap();
+            List<User> entities = repository.findAll();
+            long entityBytes = usedHeap() - before;
+
+            System.out.printf("users=%d lookups=%d jpa-lookups=%d%n", ids.length, lookups, jpaLookups);
+            System.out.printf("%-12s %14s %14s%n", "copy", "heap bytes", "bytes/user");
+            System.out.printf("%-12s %14d %14d%n", "read model", readModelBytes, readModelBytes / ids.length);
+            System.out.printf("%-12s %14d %14d%n", "jpa list", entityBytes, entityBytes / entities.size());
+            entities = null;
+
+            System.out.printf("%-12s %12s %10s %10s %10s%n", "lookup", "ops/s", "p50 us", "p99 us", "max us");
+            report("read model", ids, lookups, id -> readModel.findById(id).orElseThrow());
+            report("jpa", ids, jpaLookups, id -> repository.findById(id).orElseThrow());
+        }
+    }
+
+    private static void seed(UserRepository repository, int users) {
+        long missing = users - repository.count();
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<User> batch = new ArrayList<>(1000);
+        for (long i = 0; i < missing; i++) {
+            batch.add(User.builder()
+                    .name("User " + i)
+                    .email(prefix + "-" + i + "@bench.example")
+                    .password("password").build());
+            if (batch.size() == 1000 || i == missing - 1) {
+                repository.batchInsert(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Runs the lookups once to warm up and once measured, then prints the throughput
+     * and latency percentiles of the measured run.
+     */
+    private static void report(String name, long[] ids, int lookups, LongConsumer lookup) {
+        measure(ids, lookups, lookup);
+        long start = System.nanoTime();
+        long[] latencies = measure(ids, lookups, lookup);
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %12.0f %10.1f %10.1f %10.1f%n", name,
+                lookups / (elapsed / 1_000_000_000.0),
+                latencies[lookups / 2] / 1000.0,
+                latencies[(int) Math.min(lookups - 1, lookups * 0.99)] / 1000.0,
+                latencies[lookups - 1] / 1000.0);
+    }
+
+    private static long[] measure(long[] ids, int lookups, LongConsumer lookup) {
+        long[] latencies = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+            long start = System.nanoTime();
+            lookup.accept(id);
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.douglasliebl.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Measures the ingest rate of {@code POST /user/import} against a running instance.
+ * Each run streams freshly generated rows with unique emails, so every row is inserted.
+ * Not a unit test, run it with the test classpath, e.g.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.github.douglasliebl.api.benchmark.UserImportBenchmark \
+ *     -Dexec.args="rest=http://localhost:8080 rows=200000 runs=3 format=csv"
+ * </pre>
+ * The body is generated while it is sent, so the client never holds the whole import
+ * in memory and the measured time includes the server's backpressure.
+ */
+public final class UserImportBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private UserImportBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        String rest = options.getOrDefault("rest", "http://localhost:8080");
+        int rows = Integer.parseInt(options.getOrDefault("rows", "200000"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        boolean csv = !"ndjson".equals(options.getOrDefault("format", "csv"));
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        System.out.printf("rows=%d runs=%d format=%s%n", rows, runs, csv ? "csv" : "ndjson");
+        System.out.printf("%-6s %10s %10s %12s %14s%n", "run", "imported", "rejected", "client ms", "rows/s");
+        for (int run = 1; run <= runs; run++) {
+            String prefix = UUID.randomUUID().toString().substring(0, 8);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(rest + "/user/import"))
+                    .header("Content-Type", csv ? "text/csv" : "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new Rows(prefix, rows, csv)))
+                    .build();
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsedNanos = System.nanoTime() - start;
+            if (response.statusCode() != 200)
+                throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+
+            JsonNode report = JSON.readTree(response.body());
+            System.out.printf("%-6d %10d %10d %12d %14.0f%n", run,
+                    report.path("imported").asLong(), report.path("rejected").asLong(),
+                    elapsedNanos / 1_000_000, rows / (elapsedNanos / 1_000_000_000.0));
+        }
+    }
+
+    /**
+     * Generates the import body one row at a time.
+     */
+    private static final class Rows extends InputStream {
+
+        private final String prefix;
+        private final int rows;
+        private final boolean csv;
+        private byte[] line;
+        private int position;
+        private int row = -1;
+
+        Rows(String prefix, int rows, boolean csv) {
+            this.prefix = prefix;
+            this.rows = rows;
+            this.csv = csv;
+            this.line = csv ? "name,email,password\n".getBytes(StandardCharsets.UTF_8) : new byte[0];
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (position == line.length && !nextLine())
+                return -1;
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() {
+            if (++row >= rows)
+                return false;
+            String email = prefix + "-" + row + "@bench.example";
+            String text = csv
+                    ? "User " + row + "," + email + ",password\n"
+                    : "{\"name\":\"User " + row + "\",\"email\":\"" + email + "\",\"password\":\"password\"}\n";
+            line = text.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
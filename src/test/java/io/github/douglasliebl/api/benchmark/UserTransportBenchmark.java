@@ -0,0 +1,173 @@
+package io.github.douglasliebl.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.domain.dto.UserLookupDTO;
+import io.github.douglasliebl.api.grpc.*;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput and latency of the REST and gRPC transports against a running
+ * instance, for a single get, a multi-get and a full listing. Not a unit test, run it
+ * with the test classpath, e.g.
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=io.github.douglasliebl.api.benchmark.UserTransportBenchmark \
+ *     -Dexec.args="rest=http://localhost:8080 grpc=localhost:9090 threads=8 seconds=10"
+ * </pre>
+ * Both clients reuse their connections, so the numbers compare encoding and protocol
+ * overhead rather than connection setup.
+ */
+public final class UserTransportBenchmark {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<UserDTO>> USER_LIST = new TypeReference<>() { };
+    private static final TypeReference<UserLookupDTO<UserDTO>> USER_LOOKUP = new TypeReference<>() { };
+
+    private UserTransportBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        String rest = options.getOrDefault("rest", "http://localhost:8080");
+        String grpc = options.getOrDefault("grpc", "localhost:9090");
+        int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch", "50"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "5")));
+        Duration measure = Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "10")));
+
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ManagedChannel channel = NettyChannelBuilder.forTarget(grpc).usePlaintext().build();
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+
+        try {
+            long[] ids = listIds(stub);
+            if (ids.length == 0)
+                throw new IllegalStateException("No users to read, create some first");
+
+            Map<String, Operation> scenarios = new LinkedHashMap<>();
+            scenarios.put("rest get", () -> {
+                String body = send(http, HttpRequest.newBuilder(URI.create(rest + "/user/" + pick(ids))).GET());
+                JSON.readValue(body, UserDTO.class);
+            });
+            scenarios.put("grpc get", () ->
+                    stub.getUser(GetUserRequest.newBuilder().setId(pick(ids)).build()));
+            scenarios.put("rest multi-get " + batchSize, () -> {
+                String body = send(http, HttpRequest.newBuilder(URI.create(rest + "/user/lookup"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(batch(ids, batchSize)))));
+                JSON.readValue(body, USER_LOOKUP);
+            });
+            scenarios.put("grpc multi-get " + batchSize, () ->
+                    stub.batchGetUsers(BatchGetUsersRequest.newBuilder().addAllIds(batch(ids, batchSize)).build()));
+            scenarios.put("rest list all", () -> {
+                String body = send(http, HttpRequest.newBuilder(URI.create(rest + "/user")).GET());
+                JSON.readValue(body, USER_LIST);
+            });
+            scenarios.put("grpc list all", () ->
+                    stub.listUsers(ListUsersRequest.getDefaultInstance()).forEachRemaining(page -> { }));
+
+            System.out.printf("users=%d threads=%d seconds=%d%n", ids.length, threads, measure.toSeconds());
+            System.out.printf("%-22s %12s %10s %10s %10s%n", "scenario", "ops/s", "p50 us", "p99 us", "max us");
+            for (Map.Entry<String, Operation> scenario : scenarios.entrySet()) {
+                run(scenario.getValue(), threads, warmup);
+                long[] latencies = run(scenario.getValue(), threads, measure);
+                Arrays.sort(latencies);
+                System.out.printf("%-22s %12.0f %10d %10d %10d%n", scenario.getKey(),
+                        latencies.length / (double) measure.toNanos() * 1_000_000_000,
+                        percentile(latencies, 0.50) / 1000, percentile(latencies, 0.99) / 1000,
+                        latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1000);
+            }
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static long[] listIds(UserServiceGrpc.UserServiceBlockingStub stub) {
+        List<Long> ids = new ArrayList<>();
+        stub.listUsers(ListUsersRequest.getDefaultInstance())
+                .forEachRemaining(page -> page.getUsersList().forEach(user -> ids.add(user.getId())));
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Calls the operation from every thread until the duration elapses and returns the
+     * latency of each call in nanoseconds.
+     */
+    private static long[] run(Operation operation, int threads, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    for (long start = System.nanoTime(); start < deadline; start = System.nanoTime()) {
+                        operation.call();
+                        if (count == latencies.length)
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                int from = all.length;
+                all = Arrays.copyOf(all, from + latencies.length);
+                System.arraycopy(latencies, 0, all, from, latencies.length);
+            }
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String send(HttpClient http, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        return response.body();
+    }
+
+    private static long pick(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static List<Long> batch(long[] ids, int size) {
+        List<Long> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            batch.add(pick(ids));
+        return batch;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)];
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void call() throws Exception;
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.douglasliebl.api.config.resilience;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.aopalliance.intercept.MethodInvocation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryGuardInterceptorTest {
+
+    CircuitBreaker circuitBreaker;
+
+    RepositoryGuardInterceptor interceptor;
+
+    @BeforeEach
+    public void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("userRepository");
+        interceptor = new RepositoryGuardInterceptor(circuitBreaker,
+                Bulkhead.ofDefaults("userRead"), Bulkhead.ofDefaults("userWrite"), new StaleUserStore(10));
+    }
+
+    @Test
+    @DisplayName("Should serve the last known user while the circuit breaker is open")
+    public void whenBreakerOpenThenFindByIdReturnsStaleUser() throws Throwable {
+        // given
+        User user = User.builder().id(1L).name("User").build();
+        interceptor.invoke(invocation("findById", Optional.of(user), 1L));
+        circuitBreaker.transitionToOpenState();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        Object response;
+        try {
+            response = interceptor.invoke(invocation("findById", Optional.empty(), 1L));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // then
+        assertEquals(Optional.of(user), response);
+        assertInstanceOf(Instant.class, request.getAttribute(RepositoryGuardInterceptor.STALE_LOADED_AT));
+    }
+
+    @Test
+    @DisplayName("Should serve the last known list when the database is unreachable")
+    public void whenDatabaseDownThenFindAllReturnsStaleList() throws Throwable {
+        // given
+        List<User> users = List.of(User.builder().id(1L).build());
+        interceptor.invoke(invocation("findAll", users));
+
+        MethodInvocation failing = invocation("findAll", null);
+        Mockito.when(failing.proceed()).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        Object response = interceptor.invoke(failing);
+
+        // then
+        assertEquals(users, response);
+    }
+
+    @Test
+    @DisplayName("Should pass a lock failure through instead of serving the stale user")
+    public void whenLockFailureThenRethrowIt() throws Throwable {
+        // given
+        interceptor.invoke(invocation("findById", Optional.of(User.builder().id(1L).build()), 1L));
+
+        MethodInvocation failing = invocation("findById", null, 1L);
+        Mockito.when(failing.proceed()).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // when
+        Throwable exception = Assertions.catchThrowable(() -> interceptor.invoke(failing));
+
+        // then
+        assertEquals(CannotAcquireLockException.class, exception.getClass());
+    }
+
+    @Test
+    @DisplayName("Should serve the saved user rather than the one read before the update")
+    public void whenSavedThenStaleUserIsReplaced() throws Throwable {
+        // given
+        User saved = User.builder().id(1L).name("Renamed").build();
+        interceptor.invoke(invocation("findById", Optional.of(User.builder().id(1L).name("User").build()), 1L));
+        interceptor.invoke(invocation("save", saved, saved));
+        circuitBreaker.transitionToOpenState();
+
+        // when
+        Object response = interceptor.invoke(invocation("findById", Optional.empty(), 1L));
+
+        // then
+        assertEquals(Optional.of(saved), response);
+    }
+
+    @Test
+    @DisplayName("Should fail fast on writes while the circuit breaker is open")
+    public void whenBreakerOpenThenSaveReturnsServiceUnavailableException() throws Throwable {
+        // given
+        circuitBreaker.transitionToOpenState();
+        MethodInvocation save = invocation("save", User.builder().build(), (Object) User.builder().build());
+
+        // when
+        Throwable exception = Assertions.catchThrowable(() -> interceptor.invoke(save));
+
+        // then
+        assertEquals(ServiceUnavailableException.class, exception.getClass());
+        assertEquals("Service temporarily unavailable", exception.getMessage());
+        Mockito.verify(save, Mockito.never()).proceed();
+    }
+
+    @Test
+    @DisplayName("Should not serve a stale user after it was deleted")
+    public void whenDeletedThenStaleUserIsEvicted() throws Throwable {
+        // given
+        interceptor.invoke(invocation("findById", Optional.of(User.builder().id(1L).build()), 1L));
+        interceptor.invoke(invocation("deleteById", null, 1L));
+        circuitBreaker.transitionToOpenState();
+
+        // when
+        Throwable exception = Assertions
+                .catchThrowable(() -> interceptor.invoke(invocation("findById", Optional.empty(), 1L)));
+
+        // then
+        assertEquals(ServiceUnavailableException.class, exception.getClass());
+    }
+
+    @Test
+    @DisplayName("Should project the last known list for a sparse read while the circuit breaker is open")
+    public void whenBreakerOpenThenFindFieldsReturnsStaleProjection() throws Throwable {
+        // given
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.NAME);
+        interceptor.invoke(invocation("findAll", List.of(User.builder().id(1L).name("User").email("user@gmail.com").build())));
+        circuitBreaker.transitionToOpenState();
+
+        // when
+        Object response = interceptor.invoke(invocation("findFields", null, fields));
+
+        // then
+        assertEquals(List.of(Map.of("id", 1L, "name", "User")), response);
+    }
+
+    @Test
+    @DisplayName("Should only serve a stale sparse lookup when every id is known")
+    public void whenBreakerOpenThenFindFieldsByIdsNeedsEveryId() throws Throwable {
+        // given
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.EMAIL);
+        interceptor.invoke(invocation("findById", Optional.of(User.builder().id(1L).email("one@gmail.com").build()), 1L));
+        interceptor.invoke(invocation("findById", Optional.of(User.builder().id(2L).email("two@gmail.com").build()), 2L));
+        circuitBreaker.transitionToOpenState();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when
+        Object response;
+        Throwable exception;
+        try {
+            response = interceptor.invoke(invocation("findFieldsByIds", null, fields, List.of(2L, 1L)));
+            exception = Assertions.catchThrowable(() ->
+                    interceptor.invoke(invocation("findFieldsByIds", null, fields, List.of(1L, 3L))));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // then
+        assertEquals(List.of(Map.of("id", 2L, "email", "two@gmail.com"), Map.of("id", 1L, "email", "one@gmail.com")),
+                response);
+        assertInstanceOf(Instant.class, request.getAttribute(RepositoryGuardInterceptor.STALE_LOADED_AT));
+        assertEquals(ServiceUnavailableException.class, exception.getClass());
+    }
+
+    private static MethodInvocation invocation(String method, Object result, Object... args) throws Throwable {
+        MethodInvocation invocation = Mockito.mock(MethodInvocation.class);
+        Mockito.when(invocation.getMethod()).thenReturn(Arrays.stream(UserRepository.class.getMethods())
+                .filter(m -> m.getName().equals(method) && m.getParameterCount() == args.length)
+                .findFirst().orElseThrow());
+        Mockito.when(invocation.getArguments()).thenReturn(args);
+        Mockito.when(invocation.proceed()).thenReturn(result);
+        return invocation;
+    }
+}
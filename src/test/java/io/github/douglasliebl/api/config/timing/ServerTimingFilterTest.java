@@ -0,0 +1,71 @@
+package io.github.douglasliebl.api.config.timing;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    @DisplayName("Should send the recorded phases in the Server-Timing header")
+    public void whenHeaderEnabledThenReturnServerTiming() throws Exception {
+        // given
+        TimingProperties properties = new TimingProperties();
+        properties.setServerTimingHeader(true);
+        ServerTimingFilter filter = new ServerTimingFilter(properties);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/user/1"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                        RequestTimings.record("db.findById", TimeUnit.MILLISECONDS.toNanos(2));
+                        RequestTimings.record("db.findById", TimeUnit.MILLISECONDS.toNanos(1));
+                        resp.getWriter().write("{}");
+                    }
+                }));
+
+        // then
+        String header = response.getHeader(ServerTimingFilter.SERVER_TIMING);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db.findById;dur=3.00;desc=\"2x\", total;dur="));
+        assertEquals("{}", response.getContentAsString());
+        assertFalse(RequestTimings.isActive());
+    }
+
+    @Test
+    @DisplayName("Should not send the Server-Timing header when disabled")
+    public void whenHeaderDisabledThenReturnNoServerTiming() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(new TimingProperties());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/user"), response, new MockFilterChain());
+
+        // then
+        assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING));
+    }
+
+    @Test
+    @DisplayName("Should ignore phases recorded outside of a request")
+    public void whenNoRequestThenRecordIsNoOp() {
+        // when
+        String response = RequestTimings.time("mapping", () -> "mapped");
+
+        // then
+        assertEquals("mapped", response);
+        assertFalse(RequestTimings.isActive());
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.douglasliebl.api.config.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserWarmupTest {
+
+    UserService service = Mockito.mock(UserService.class);
+    UserRepository repository = Mockito.mock(UserRepository.class);
+    PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    EntityManager entityManager = Mockito.mock(EntityManager.class);
+    DataSource dataSource = Mockito.mock(DataSource.class);
+    Connection connection = Mockito.mock(Connection.class);
+
+    WarmupProperties properties = new WarmupProperties();
+    UserWarmup warmup;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        properties.setRoundIterations(5);
+        properties.setMinRounds(2);
+        properties.setCompileThreshold(Duration.ofHours(1));
+        properties.setMaxDuration(Duration.ofSeconds(5));
+        warmup = new UserWarmup(properties, service, repository, new ModelMapper(), new ObjectMapper(),
+                new TransactionTemplate(transactionManager), entityManager, dataSource);
+
+        User user = User.builder().id(1L).name("warmup").build();
+        Mockito.when(service.create(Mockito.any(UserDTO.class))).thenReturn(user);
+        Mockito.when(service.findById(1L)).thenReturn(user);
+        Mockito.when(service.findAllById(List.of(1L))).thenReturn(List.of(user));
+        Mockito.when(service.findAllAfter(0L, UserWarmup.LIST_PAGE_SIZE)).thenReturn(List.of(user));
+        Mockito.when(service.findAll()).thenReturn(List.of(user));
+        Mockito.when(transactionManager.getTransaction(Mockito.any())).thenReturn(new SimpleTransactionStatus());
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Should exercise the user paths in rolled back transactions and report the warmup")
+    @SuppressWarnings("unchecked")
+    public void whenRunThenWarmUpAndRollBack() throws Exception {
+        // when
+        warmup.run(new DefaultApplicationArguments());
+
+        // then
+        ArgumentCaptor<TransactionStatus> statuses = ArgumentCaptor.forClass(TransactionStatus.class);
+        Mockito.verify(transactionManager, Mockito.atLeast(10)).commit(statuses.capture());
+        assertTrue(statuses.getAllValues().stream().allMatch(TransactionStatus::isRollbackOnly));
+        Mockito.verify(connection, Mockito.times(1)).close();
+        InOrder order = Mockito.inOrder(service, entityManager);
+        order.verify(service).create(Mockito.any(UserDTO.class));
+        order.verify(entityManager).clear();
+        order.verify(service).findById(1L);
+        Mockito.verify(service, Mockito.atLeast(10)).findAllAfter(0L, UserWarmup.LIST_PAGE_SIZE);
+        Mockito.verify(service, Mockito.times(1)).findAll();
+
+        Info.Builder builder = new Info.Builder();
+        warmup.contribute(builder);
+        Map<String, Object> report = (Map<String, Object>) builder.build().get("warmup");
+        assertEquals(1, report.get("poolConnections"));
+        assertTrue((Integer) report.get("rounds") >= 2);
+        assertNotNull(report.get("firstRoundMicrosPerIteration"));
+        assertNotNull(report.get("durationMillis"));
+    }
+
+    @Test
+    @DisplayName("Should skip the full listing when the table is large")
+    public void whenTableLargeThenSkipFindAll() throws Exception {
+        // given
+        Mockito.when(repository.count()).thenReturn(UserWarmup.FIND_ALL_LIMIT + 1);
+
+        // when
+        warmup.run(new DefaultApplicationArguments());
+
+        // then
+        Mockito.verify(service, Mockito.atLeast(10)).findAllAfter(0L, UserWarmup.LIST_PAGE_SIZE);
+        Mockito.verify(service, Mockito.never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should release readiness when the warmup fails")
+    @SuppressWarnings("unchecked")
+    public void whenWarmupFailsThenReportError() throws Exception {
+        // given
+        Mockito.when(service.create(Mockito.any(UserDTO.class))).thenThrow(new IllegalStateException("database down"));
+
+        // when
+        assertDoesNotThrow(() -> warmup.run(new DefaultApplicationArguments()));
+
+        // then
+        Info.Builder builder = new Info.Builder();
+        warmup.contribute(builder);
+        Map<String, Object> report = (Map<String, Object>) builder.build().get("warmup");
+        assertEquals("java.lang.IllegalStateException: database down", report.get("error"));
+    }
+}
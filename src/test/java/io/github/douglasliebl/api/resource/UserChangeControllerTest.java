@@ -0,0 +1,69 @@
+package io.github.douglasliebl.api.resource;
+
+import io.github.douglasliebl.api.domain.dto.UserChangesDTO;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.services.UserChangeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = UserChangeController.class)
+@AutoConfigureMockMvc
+class UserChangeControllerTest {
+
+    static final String CHANGES_API = "/user/changes";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    UserChangeService service;
+
+    @Test
+    @DisplayName("Should return the users changed since the token")
+    public void whenFindChangesThenReturnChangesAndToken() throws Exception {
+        // given
+        BDDMockito.given(service.findChanges(4L, 500))
+                .willReturn(UserChangesDTO.builder()
+                        .users(List.of(UserDTO.builder()
+                                .id(1L)
+                                .name("User")
+                                .email("user@gmail.com")
+                                .password("password").build()))
+                        .deleted(List.of(2L))
+                        .token(6L)
+                        .hasMore(false).build());
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(CHANGES_API)
+                .param("since", "4")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("users[0].id").value(1L))
+                .andExpect(jsonPath("users[0].password").doesNotExist())
+                .andExpect(jsonPath("deleted[0]").value(2L))
+                .andExpect(jsonPath("token").value(6L))
+                .andExpect(jsonPath("hasMore").value(false));
+    }
+}
@@ -3,6 +3,7 @@ package io.github.douglasliebl.api.resource;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
 import io.github.douglasliebl.api.domain.dto.UserDTO;
 import io.github.douglasliebl.api.services.UserService;
 import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
@@ -27,6 +28,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -259,4 +262,138 @@ class UserControllerTest {
                 .andExpect(status().isNoContent());
         Mockito.verify(service, Mockito.times(1)).delete(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return the found users and the missing ids")
+    public void whenFindAllByIdThenReturnUsersAndMissingIds() throws Exception {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .name("User").build();
+
+        UserDTO dto = UserDTO.builder()
+                .id(1L)
+                .name("User").build();
+
+        BDDMockito.given(service.findAllById(List.of(1L, 2L)))
+                .willReturn(List.of(user));
+        BDDMockito.given(mapper.map(Mockito.any(), Mockito.any()))
+                .willReturn(dto);
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(USER_API)
+                .param("ids", "1,2")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("users[0].id").value(1L))
+                .andExpect(jsonPath("users[0].name").value("User"))
+                .andExpect(jsonPath("missing[0]").value(2L));
+    }
+
+    @Test
+    @DisplayName("Should lookup users by a list of ids")
+    public void whenLookupThenReturnUsersAndMissingIds() throws Exception {
+        // given
+        String json = new ObjectMapper().writeValueAsString(List.of(3L, 4L));
+
+        BDDMockito.given(service.findAllById(List.of(3L, 4L)))
+                .willReturn(List.of());
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .post(USER_API.concat("/lookup"))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("users").isEmpty())
+                .andExpect(jsonPath("missing[0]").value(3L))
+                .andExpect(jsonPath("missing[1]").value(4L));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested fields of a user")
+    public void whenFindByIdWithFieldsThenReturnSparseUser() throws Exception {
+        // given
+        BDDMockito.given(service.findById(1L, Set.of(UserField.ID, UserField.NAME)))
+                .willReturn(Map.of("id", 1L, "name", "User"));
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(USER_API.concat("/" + 1L))
+                .param("fields", "name")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(1L))
+                .andExpect(jsonPath("name").value("User"))
+                .andExpect(jsonPath("email").doesNotExist());
+        Mockito.verify(mapper, Mockito.never()).map(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Should return only the requested fields of all users")
+    public void whenFindAllWithFieldsThenReturnSparseUsers() throws Exception {
+        // given
+        BDDMockito.given(service.findAll(Set.of(UserField.ID, UserField.EMAIL)))
+                .willReturn(List.of(Map.of("id", 1L, "email", "user@gmail.com")));
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(USER_API)
+                .param("fields", "id,email")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].email").value("user@gmail.com"))
+                .andExpect(jsonPath("[0].name").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return the requested fields of the found users and the missing ids")
+    public void whenFindAllByIdWithFieldsThenReturnSparseUsersAndMissingIds() throws Exception {
+        // given
+        BDDMockito.given(service.findAllById(List.of(1L, 2L), Set.of(UserField.ID, UserField.NAME)))
+                .willReturn(List.of(Map.of("id", 2L, "name", "User")));
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(USER_API)
+                .param("ids", "1,2")
+                .param("fields", "name")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("users[0].id").value(2L))
+                .andExpect(jsonPath("missing[0]").value(1L));
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when requesting an unknown field")
+    public void whenFindAllWithUnknownFieldThenReturnBadRequest() throws Exception {
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(USER_API)
+                .param("fields", "name,password")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("error").value("Unknown field: password"))
+                .andExpect(jsonPath("status").value(HttpStatus.BAD_REQUEST.value()));
+    }
+}
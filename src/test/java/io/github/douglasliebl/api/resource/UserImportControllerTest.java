@@ -0,0 +1,87 @@
+package io.github.douglasliebl.api.resource;
+
+import io.github.douglasliebl.api.domain.dto.UserImportReportDTO;
+import io.github.douglasliebl.api.services.UserImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = UserImportController.class)
+@AutoConfigureMockMvc
+class UserImportControllerTest {
+
+    static final String IMPORT_API = "/user/import";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    UserImportService service;
+
+    @Test
+    @DisplayName("Should import users from a CSV body")
+    public void whenImportCsvThenReturnReport() throws Exception {
+        // given
+        BDDMockito.given(service.importUsers(Mockito.any(), Mockito.eq(UserImportService.Format.CSV), Mockito.eq(0L)))
+                .willReturn(UserImportReportDTO.builder()
+                        .rowsRead(1)
+                        .imported(1)
+                        .checkpoint(1)
+                        .completed(true).build());
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .post(IMPORT_API)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType("text/csv")
+                .content("name,email,password\nUser,user@gmail.com,password\n");
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("imported").value(1))
+                .andExpect(jsonPath("checkpoint").value(1))
+                .andExpect(jsonPath("completed").value(true));
+    }
+
+    @Test
+    @DisplayName("Should resume an NDJSON import from a checkpoint")
+    public void whenImportNdjsonWithSkipThenResume() throws Exception {
+        // given
+        BDDMockito.given(service.importUsers(Mockito.any(), Mockito.eq(UserImportService.Format.NDJSON), Mockito.eq(5L)))
+                .willReturn(UserImportReportDTO.builder()
+                        .checkpoint(5)
+                        .completed(true).build());
+
+        // when
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .post(IMPORT_API)
+                .param("skip", "5")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"User\",\"email\":\"user@gmail.com\"}\n");
+
+        // then
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("checkpoint").value(5));
+        Mockito.verify(service, Mockito.times(1))
+                .importUsers(Mockito.any(), Mockito.eq(UserImportService.Format.NDJSON), Mockito.eq(5L));
+    }
+}
@@ -2,6 +2,7 @@ package io.github.douglasliebl.api.resource.exception;
 
 import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
 import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,4 +61,22 @@ class ResourceExceptionHandlerTest {
         assertEquals(400, response.getBody().getStatus());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return an Response Entity")
+    public void whenServiceUnavailableExceptionThenReturnAnResponseEntity() {
+        // given
+        ResponseEntity<StandardError> response = resourceExceptionHandler
+                .handleServiceUnavailableException(
+                        new ServiceUnavailableException("Service temporarily unavailable"),
+                        new MockHttpServletRequest());
+
+        // then
+        assertNotNull(response);
+        assertNotNull(response.getBody());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(StandardError.class, response.getBody().getClass());
+        assertEquals("Service temporarily unavailable", response.getBody().getError());
+        assertEquals(503, response.getBody().getStatus());
+    }
+
+}
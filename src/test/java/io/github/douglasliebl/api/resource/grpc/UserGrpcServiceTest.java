@@ -0,0 +1,159 @@
+package io.github.douglasliebl.api.resource.grpc;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserDTO;
+import io.github.douglasliebl.api.grpc.*;
+import io.github.douglasliebl.api.services.UserService;
+import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
+import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+class UserGrpcServiceTest {
+
+    @MockBean
+    UserService service;
+
+    Server server;
+    ManagedChannel channel;
+    UserServiceGrpc.UserServiceBlockingStub stub;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new UserGrpcService(service))
+                .build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = UserServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return a user without its password")
+    public void whenGetUserThenReturnUser() {
+        // when
+        Mockito.when(service.findById(1L)).thenReturn(user(1L));
+
+        UserReply response = stub.getUser(GetUserRequest.newBuilder().setId(1L).build());
+
+        // then
+        assertEquals(1L, response.getId());
+        assertEquals("User 1", response.getName());
+        assertEquals("user1@gmail.com", response.getEmail());
+    }
+
+    @Test
+    @DisplayName("Should return NOT_FOUND when the user does not exist")
+    public void whenGetUserThenReturnNotFound() {
+        // when
+        Mockito.when(service.findById(1L)).thenThrow(new ObjectNotFoundException("Object not found"));
+
+        Throwable exception = Assertions
+                .catchThrowable(() -> stub.getUser(GetUserRequest.newBuilder().setId(1L).build()));
+
+        // then
+        assertEquals(StatusRuntimeException.class, exception.getClass());
+        assertEquals(Status.Code.NOT_FOUND, ((StatusRuntimeException) exception).getStatus().getCode());
+        assertEquals("Object not found", ((StatusRuntimeException) exception).getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("Should return ALREADY_EXISTS when the email is already used")
+    public void whenCreateUserThenReturnAlreadyExists() {
+        // when
+        Mockito.when(service.create(Mockito.any())).thenThrow(new DataIntegrityViolationException("Email already used"));
+
+        Throwable exception = Assertions.catchThrowable(() -> stub.createUser(UserRequest.newBuilder()
+                .setId(5L)
+                .setName("User")
+                .setEmail("user@gmail.com")
+                .setPassword("password").build()));
+
+        // then
+        ArgumentCaptor<UserDTO> request = ArgumentCaptor.forClass(UserDTO.class);
+        Mockito.verify(service).create(request.capture());
+        assertNull(request.getValue().getId());
+        assertEquals("password", request.getValue().getPassword());
+        assertEquals(Status.Code.ALREADY_EXISTS, ((StatusRuntimeException) exception).getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should return INVALID_ARGUMENT when updating without an id")
+    public void whenUpdateUserWithoutIdThenReturnInvalidArgument() {
+        // when
+        Throwable exception = Assertions.catchThrowable(() -> stub.updateUser(UserRequest.newBuilder()
+                .setName("User").build()));
+
+        // then
+        assertEquals(Status.Code.INVALID_ARGUMENT, ((StatusRuntimeException) exception).getStatus().getCode());
+        Mockito.verify(service, Mockito.never()).update(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Should return the found users and the missing ids")
+    public void whenBatchGetUsersThenReturnUsersAndMissingIds() {
+        // when
+        Mockito.when(service.findAllById(List.of(1L, 2L, 1L))).thenReturn(List.of(user(2L)));
+
+        BatchGetUsersReply response = stub.batchGetUsers(BatchGetUsersRequest.newBuilder()
+                .addAllIds(List.of(1L, 2L, 1L)).build());
+
+        // then
+        assertEquals(1, response.getUsersCount());
+        assertEquals(2L, response.getUsers(0).getId());
+        assertEquals(List.of(1L), response.getMissingList());
+    }
+
+    @Test
+    @DisplayName("Should stream every user one keyset page per message")
+    public void whenListUsersThenStreamAllPages() {
+        // when
+        Mockito.when(service.findAllAfter(0L, 2)).thenReturn(List.of(user(1L), user(2L)));
+        Mockito.when(service.findAllAfter(2L, 2)).thenReturn(List.of(user(3L)));
+
+        List<Long> ids = new ArrayList<>();
+        stub.listUsers(ListUsersRequest.newBuilder().setPageSize(2).build())
+                .forEachRemaining(page -> page.getUsersList().forEach(user -> ids.add(user.getId())));
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), ids);
+        Mockito.verify(service, Mockito.times(2)).findAllAfter(Mockito.anyLong(), Mockito.eq(2));
+    }
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@gmail.com")
+                .password("password").build();
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.douglasliebl.api.services.impl;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import io.github.douglasliebl.api.domain.dto.UserChangesDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.repositories.UserTombstoneRepository;
+import io.github.douglasliebl.api.services.UserChangeService;
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+class UserChangeServiceImplTest {
+
+    static final LocalDateTime HORIZON = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    UserChangeService service;
+
+    @MockBean
+    UserRepository repository;
+
+    @MockBean
+    UserTombstoneRepository tombstoneRepository;
+
+    @MockBean
+    ChangeHorizon changeHorizon;
+
+    @BeforeEach
+    public void setUp() {
+        this.service = new UserChangeServiceImpl(repository, tombstoneRepository, new ModelMapper(), changeHorizon);
+        Mockito.when(changeHorizon.current()).thenReturn(HORIZON);
+    }
+
+    @Test
+    @DisplayName("Should return the changed users and deleted ids after the token")
+    public void whenFindChangesThenReturnUpsertsTombstonesAndToken() {
+        // when
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(1L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(user(1L, 2L), user(2L, 5L)));
+        Mockito.when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(1L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(new UserTombstone(3L, 7L, HORIZON.minusMinutes(1))));
+
+        UserChangesDTO response = service.findChanges(1L, 10);
+
+        // then
+        assertEquals(2, response.getUsers().size());
+        assertEquals(1L, response.getUsers().get(0).getId());
+        assertEquals(List.of(7L), response.getDeleted());
+        assertEquals(5L, response.getToken());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should stop at the limit in change order and resume from the last change returned")
+    public void whenChangesExceedLimitThenReturnTokenOfLastChange() {
+        // when
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(user(1L, 2L), user(2L, 5L)));
+        Mockito.when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(new UserTombstone(3L, 7L, HORIZON.minusMinutes(1))));
+
+        UserChangesDTO response = service.findChanges(0L, 2);
+
+        // then
+        assertEquals(1, response.getUsers().size());
+        assertEquals(List.of(7L), response.getDeleted());
+        assertEquals(3L, response.getToken());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should hold back the changes from the first one newer than the horizon")
+    public void whenChangeNewerThanHorizonThenStopBeforeIt() {
+        // when
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(1L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(user(1L, 2L, HORIZON.minusSeconds(1)), user(2L, 5L, HORIZON.plusSeconds(1))));
+        Mockito.when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(1L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(new UserTombstone(7L, 3L, HORIZON.minusMinutes(5))));
+
+        UserChangesDTO response = service.findChanges(1L, 10);
+
+        // then
+        assertEquals(List.of(1L), response.getUsers().stream().map(u -> u.getId()).toList());
+        assertTrue(response.getDeleted().isEmpty());
+        assertEquals(2L, response.getToken());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should still return a lower sequence that commits after a higher one was read")
+    public void whenLowerSequenceCommitsLateThenNextSyncReturnsIt() {
+        // given seq 5 is committed while seq 4, taken earlier, is still in flight
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(3L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(user(2L, 5L, HORIZON.plusSeconds(30))));
+
+        UserChangesDTO first = service.findChanges(3L, 10);
+
+        // when seq 4 commits and both are older than the horizon
+        Mockito.when(changeHorizon.current()).thenReturn(HORIZON.plusMinutes(1));
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(first.getToken(), PageRequest.ofSize(11)))
+                .thenReturn(List.of(user(1L, 4L, HORIZON.plusSeconds(29)), user(2L, 5L, HORIZON.plusSeconds(30))));
+
+        UserChangesDTO second = service.findChanges(first.getToken(), 10);
+
+        // then
+        assertTrue(first.getUsers().isEmpty());
+        assertEquals(3L, first.getToken());
+        assertFalse(first.isHasMore());
+        assertEquals(List.of(1L, 2L), second.getUsers().stream().map(u -> u.getId()).toList());
+        assertEquals(5L, second.getToken());
+    }
+
+    @Test
+    @DisplayName("Should return the same token when nothing changed")
+    public void whenNoChangesThenReturnSameToken() {
+        // when
+        UserChangesDTO response = service.findChanges(42L, 10);
+
+        // then
+        assertTrue(response.getUsers().isEmpty());
+        assertTrue(response.getDeleted().isEmpty());
+        assertEquals(42L, response.getToken());
+        assertFalse(response.isHasMore());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when the token is negative")
+    public void whenFindChangesWithNegativeTokenThenReturnBadRequestException() {
+        // when
+        Throwable exception = Assertions.catchThrowable(() -> service.findChanges(-1L, 10));
+
+        // then
+        assertEquals(BadRequestException.class, exception.getClass());
+        assertEquals("Invalid sync token", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should backfill change sequences in batches until none is left")
+    public void whenBackfillThenRepeatBatchesUntilNoRowChanges() {
+        // when
+        Mockito.when(repository.backfillChangeSeq(UserChangeServiceImpl.BACKFILL_BATCH_SIZE))
+                .thenReturn(UserChangeServiceImpl.BACKFILL_BATCH_SIZE, 10, 0);
+
+        ((UserChangeServiceImpl) service).backfill();
+
+        // then
+        Mockito.verify(repository, Mockito.times(3)).backfillChangeSeq(UserChangeServiceImpl.BACKFILL_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should not fail start-up when a backfill batch fails")
+    public void whenBackfillBatchFailsThenStop() {
+        // when
+        Mockito.when(repository.backfillChangeSeq(UserChangeServiceImpl.BACKFILL_BATCH_SIZE))
+                .thenReturn(UserChangeServiceImpl.BACKFILL_BATCH_SIZE)
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        assertDoesNotThrow(() -> ((UserChangeServiceImpl) service).backfill());
+
+        // then
+        Mockito.verify(repository, Mockito.times(2)).backfillChangeSeq(UserChangeServiceImpl.BACKFILL_BATCH_SIZE);
+    }
+
+    private static User user(Long id, Long changeSeq) {
+        return user(id, changeSeq, HORIZON.minusMinutes(1));
+    }
+
+    private static User user(Long id, Long changeSeq, LocalDateTime changedAt) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@gmail.com")
+                .password("password")
+                .changeSeq(changeSeq)
+                .changedAt(changedAt).build();
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.douglasliebl.api.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.dto.UserImportReportDTO;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.services.UserImportService;
+import io.github.douglasliebl.api.services.exceptions.BadRequestException;
+import io.github.douglasliebl.api.services.exceptions.ServiceUnavailableException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+class UserImportServiceImplTest {
+
+    UserImportService service;
+
+    @MockBean
+    UserRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        this.service = new UserImportServiceImpl(repository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows and report the rejected ones")
+    @SuppressWarnings("unchecked")
+    public void whenImportCsvThenInsertValidRows() throws Exception {
+        // given
+        String csv = """
+                name,email,password
+                User,user@gmail.com,password
+                "Doe, John",john@gmail.com,secret
+                Copy,user@gmail.com,password
+                Taken,taken@gmail.com,password
+                NoMail,,password
+                """;
+
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of("taken@gmail.com"));
+
+        UserImportReportDTO response = service.importUsers(body(csv), UserImportService.Format.CSV, 0);
+
+        // then
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository, Mockito.times(1)).batchInsert(inserted.capture());
+        assertEquals(2, inserted.getValue().size());
+        assertEquals("Doe, John", inserted.getValue().get(1).getName());
+
+        assertTrue(response.isCompleted());
+        assertEquals(5, response.getRowsRead());
+        assertEquals(2, response.getImported());
+        assertEquals(3, response.getRejected());
+        assertEquals(5, response.getCheckpoint());
+        assertEquals(List.of(5L, 3L, 4L), response.getErrors().stream().map(e -> e.getRow()).toList());
+        assertEquals("Duplicate email in import", response.getErrors().get(1).getReason());
+        assertEquals("Email already used", response.getErrors().get(2).getReason());
+    }
+
+    @Test
+    @DisplayName("Should skip the rows before the checkpoint")
+    public void whenImportNdjsonWithSkipThenResumeAfterCheckpoint() throws Exception {
+        // given
+        String ndjson = """
+                {"name":"First","email":"first@gmail.com"}
+                {"name":"Second","email":"second@gmail.com"}
+                not json
+                """;
+
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of());
+
+        UserImportReportDTO response = service.importUsers(body(ndjson), UserImportService.Format.NDJSON, 1);
+
+        // then
+        assertTrue(response.isCompleted());
+        assertEquals(2, response.getRowsRead());
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getCheckpoint());
+        assertEquals("Malformed row", response.getErrors().get(0).getReason());
+        Mockito.verify(repository, Mockito.times(1)).findExistingEmails(Set.of("second@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Should write large imports in bounded chunks")
+    public void whenImportManyRowsThenWriteInChunks() throws Exception {
+        // given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < UserImportServiceImpl.CHUNK_SIZE * 2 + 1; i++)
+            ndjson.append("{\"name\":\"User\",\"email\":\"user").append(i).append("@gmail.com\"}\n");
+
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of());
+
+        UserImportReportDTO response = service.importUsers(body(ndjson.toString()), UserImportService.Format.NDJSON, 0);
+
+        // then
+        assertEquals(UserImportServiceImpl.CHUNK_SIZE * 2 + 1, response.getImported());
+        Mockito.verify(repository, Mockito.times(3)).batchInsert(Mockito.anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop at the last checkpoint when a chunk cannot be written")
+    public void whenChunkFailsThenReturnCheckpoint() throws Exception {
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        UserImportReportDTO response = service.importUsers(
+                body("name,email\nUser,user@gmail.com\n"), UserImportService.Format.CSV, 0);
+
+        // then
+        assertFalse(response.isCompleted());
+        assertEquals(0, response.getCheckpoint());
+        assertEquals("Import stopped after row 0: connection lost", response.getFailure());
+    }
+
+    @Test
+    @DisplayName("Should stop at the last checkpoint when the repository guard rejects a chunk")
+    public void whenRepositoryUnavailableThenReturnCheckpoint() throws Exception {
+        // given
+        StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < UserImportServiceImpl.CHUNK_SIZE + 1; i++)
+            csv.append("User,user").append(i).append("@gmail.com\n");
+
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of())
+                .thenThrow(new ServiceUnavailableException("Service temporarily unavailable"));
+
+        UserImportReportDTO response = service.importUsers(body(csv.toString()), UserImportService.Format.CSV, 0);
+
+        // then
+        assertFalse(response.isCompleted());
+        assertEquals(UserImportServiceImpl.CHUNK_SIZE, response.getImported());
+        assertEquals(UserImportServiceImpl.CHUNK_SIZE, response.getCheckpoint());
+        assertEquals("Import stopped after row 1000: Service temporarily unavailable", response.getFailure());
+    }
+
+    @Test
+    @DisplayName("Should throw an exception when the CSV header misses required columns")
+    public void whenCsvHeaderInvalidThenReturnBadRequestException() {
+        // when
+        Throwable exception = Assertions
+                .catchThrowable(() -> service.importUsers(body("name,password\n"), UserImportService.Format.CSV, 0));
+
+        // then
+        assertEquals(BadRequestException.class, exception.getClass());
+        assertEquals("CSV header must contain name and email columns", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject NDJSON rows that are null or longer than the line limit")
+    public void whenImportNullAndLongRowsThenRejectThem() throws Exception {
+        // given
+        String ndjson = "null\r\n"
+                + "{\"name\":\"" + "x".repeat(UserImportServiceImpl.MAX_LINE_LENGTH) + "\",\"email\":\"long@gmail.com\"}\n"
+                + "{\"name\":\"User\",\"email\":\"user@gmail.com\"}\r\n";
+
+        // when
+        Mockito.when(repository.findExistingEmails(Mockito.anyCollection()))
+                .thenReturn(Set.of());
+
+        UserImportReportDTO response = service.importUsers(body(ndjson), UserImportService.Format.NDJSON, 0);
+
+        // then
+        assertTrue(response.isCompleted());
+        assertEquals(3, response.getRowsRead());
+        assertEquals(1, response.getImported());
+        assertEquals(3, response.getCheckpoint());
+        assertEquals("Malformed row", response.getErrors().get(0).getReason());
+        assertEquals(2L, response.getErrors().get(1).getRow());
+        assertEquals("Row too long", response.getErrors().get(1).getReason());
+        Mockito.verify(repository, Mockito.times(1)).findExistingEmails(Set.of("user@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Should split lines on LF and CRLF and cap their length")
+    public void whenReadLinesThenStripTerminatorsAndCapLength() throws Exception {
+        // given
+        UserImportServiceImpl.LineReader reader = new UserImportServiceImpl.LineReader(
+                new StringReader("abc\r\nabcd\r\nabcdef\nab"), 4);
+
+        // then
+        assertEquals("abc", reader.readLine());
+        assertFalse(reader.tooLong());
+        assertEquals("abcd", reader.readLine());
+        assertFalse(reader.tooLong());
+        assertEquals("abcd", reader.readLine());
+        assertTrue(reader.tooLong());
+        assertEquals("ab", reader.readLine());
+        assertFalse(reader.tooLong());
+        assertNull(reader.readLine());
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.douglasliebl.api.services.impl;
 
 import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserField;
 import io.github.douglasliebl.api.domain.dto.UserDTO;
 import io.github.douglasliebl.api.repositories.UserRepository;
 import io.github.douglasliebl.api.services.UserService;
 import io.github.douglasliebl.api.services.exceptions.DataIntegrityViolationException;
 import io.github.douglasliebl.api.services.exceptions.ObjectNotFoundException;
+import io.github.douglasliebl.api.services.readmodel.UserReadModel;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +20,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,9 +39,12 @@ class UserServiceImplTest {
     @MockBean
     ModelMapper mapper;
 
+    @MockBean
+    UserReadModel readModel;
+
     @BeforeEach
     public void setUp() {
-        this.service = new UserServiceImpl(repository, mapper);
+        this.service = new UserServiceImpl(repository, mapper, readModel);
     }
 
     @Test
@@ -82,6 +90,62 @@ class UserServiceImplTest {
         assertEquals("Object not found", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should return a user from the read model when it is serving")
+    public void whenReadModelServingThenFindByIdFromMemory() {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .name("User").build();
+
+        // when
+        Mockito.when(readModel.isServing()).thenReturn(true);
+        Mockito.when(readModel.findById(1L)).thenReturn(Optional.of(user));
+
+        User response = service.findById(1L);
+
+        // then
+        assertEquals(user, response);
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("Should check email uniqueness against the database even when the read model is serving")
+    public void whenReadModelServingThenEmailVerifyFromDatabase() {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email("user@gmail.com").build();
+
+        // when
+        Mockito.when(readModel.isServing()).thenReturn(true);
+        Mockito.when(repository.findByEmail("user@gmail.com")).thenReturn(Optional.of(user));
+
+        Throwable exception = Assertions
+                .catchThrowable(() -> service.create(UserDTO.builder().email("user@gmail.com").build()));
+
+        // then
+        assertEquals(DataIntegrityViolationException.class, exception.getClass());
+        assertEquals("Email already used", exception.getMessage());
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Should report an email taken by a concurrent write as already used")
+    public void whenSaveViolatesUniqueEmailThenThrowDataIntegrityViolationException() {
+        // when
+        Mockito.when(repository.save(Mockito.any()))
+                .thenThrow(new org.springframework.dao.DataIntegrityViolationException("duplicate key"));
+
+        Throwable exception = Assertions
+                .catchThrowable(() -> service.create(UserDTO.builder().email("user@gmail.com").build()));
+
+        // then
+        assertEquals(DataIntegrityViolationException.class, exception.getClass());
+        assertEquals("Email already used", exception.getMessage());
+        Mockito.verify(readModel, Mockito.never()).put(Mockito.any());
+    }
+
     @Test
     @DisplayName("Should return an list of all users")
     public void whenFindAllThenReturnAnListOfUsers() {
@@ -105,6 +169,96 @@ class UserServiceImplTest {
         assertEquals(1L, response.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should return users in request order skipping missing ids")
+    public void whenFindAllByIdThenReturnUsersInRequestOrder() {
+        // given
+        User first = User.builder().id(1L).build();
+        User third = User.builder().id(3L).build();
+
+        // when
+        Mockito.when(repository.findAllById(Mockito.anyIterable()))
+                .thenReturn(List.of(first, third));
+
+        List<User> response = service.findAllById(List.of(3L, 2L, 1L, 3L));
+
+        // then
+        assertEquals(2, response.size());
+        assertEquals(3L, response.get(0).getId());
+        assertEquals(1L, response.get(1).getId());
+        Mockito.verify(repository, Mockito.times(1)).findAllById(List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should query large id lists in bounded chunks")
+    public void whenFindAllByIdWithManyIdsThenQueryInChunks() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, UserServiceImpl.LOOKUP_CHUNK_SIZE + 1L).boxed().toList();
+
+        // when
+        Mockito.when(repository.findAllById(Mockito.anyIterable()))
+                .thenReturn(List.of());
+
+        List<User> response = service.findAllById(ids);
+
+        // then
+        assertTrue(response.isEmpty());
+        Mockito.verify(repository, Mockito.times(2)).findAllById(Mockito.anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should return the requested fields of users in request order")
+    public void whenFindAllByIdWithFieldsThenReturnRowsInRequestOrder() {
+        // given
+        Set<UserField> fields = Set.of(UserField.ID, UserField.NAME);
+
+        // when
+        Mockito.when(repository.findFieldsByIds(Mockito.eq(fields), Mockito.anyCollection()))
+                .thenReturn(List.of(Map.of("id", 1L, "name", "First"), Map.of("id", 3L, "name", "Third")));
+
+        List<Map<String, Object>> response = service.findAllById(List.of(3L, 2L, 1L), fields);
+
+        // then
+        assertEquals(List.of(Map.of("id", 3L, "name", "Third"), Map.of("id", 1L, "name", "First")), response);
+        Mockito.verify(repository, Mockito.never()).findAllById(Mockito.anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should throw an Exception when the sparse user cannot be found")
+    public void whenFindByIdWithFieldsThenReturnAnObjectNotFoundException() {
+        // when
+        Mockito.when(repository.findFieldsByIds(Mockito.anySet(), Mockito.anyCollection()))
+                .thenReturn(List.of());
+
+        Throwable exception = Assertions
+                .catchThrowable(() -> service.findById(1L, Set.of(UserField.ID)));
+
+        // then
+        assertEquals(ObjectNotFoundException.class, exception.getClass());
+        assertEquals("Object not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should project the requested fields from the read model when it is serving")
+    public void whenReadModelServingThenFindAllWithFieldsFromMemory() {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .name("User")
+                .email("user@gmail.com")
+                .password("password").build();
+
+        // when
+        Mockito.when(readModel.isServing()).thenReturn(true);
+        Mockito.when(readModel.findAll()).thenReturn(List.of(user));
+
+        List<Map<String, Object>> response = service.findAll(UserField.parse("email"));
+
+        // then
+        assertEquals(List.of(Map.of("id", 1L, "email", "user@gmail.com")), response);
+        Mockito.verify(repository, Mockito.never()).findFields(Mockito.anySet());
+    }
+
     @Test
     @DisplayName("Should create a user")
     public void whenCreateThenReturnSuccess() {
@@ -226,7 +380,8 @@ class UserServiceImplTest {
         assertDoesNotThrow(() -> service.delete(1L));
 
         // then
-        Mockito.verify(repository, Mockito.times(1)).deleteById(1L);
+        Mockito.verify(repository, Mockito.times(1)).deleteWithTombstone(1L);
+        Mockito.verify(readModel, Mockito.times(1)).remove(1L);
     }
 
     @Test
@@ -240,7 +395,7 @@ class UserServiceImplTest {
                 .catchThrowable(() -> service.delete(id));
 
         // then
-        Mockito.verify(repository, Mockito.never()).deleteById(id);
+        Mockito.verify(repository, Mockito.never()).deleteWithTombstone(id);
         assertEquals(ObjectNotFoundException.class, exception.getClass());
         assertEquals("Object not found", exception.getMessage());
     }
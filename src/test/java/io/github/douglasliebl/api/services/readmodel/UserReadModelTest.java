@@ -0,0 +1,188 @@
+package io.github.douglasliebl.api.services.readmodel;
+
+import io.github.douglasliebl.api.domain.User;
+import io.github.douglasliebl.api.domain.UserTombstone;
+import io.github.douglasliebl.api.repositories.UserRepository;
+import io.github.douglasliebl.api.repositories.UserTombstoneRepository;
+import io.github.douglasliebl.api.services.changes.ChangeHorizon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+class UserReadModelTest {
+
+    static final PageRequest PAGE = PageRequest.ofSize(2);
+    static final LocalDateTime HORIZON = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    UserReadModel readModel;
+    ReadModelProperties properties;
+
+    @MockBean
+    UserRepository repository;
+
+    @MockBean
+    UserTombstoneRepository tombstoneRepository;
+
+    @MockBean
+    ChangeHorizon changeHorizon;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new ReadModelProperties();
+        properties.setEnabled(true);
+        properties.setPageSize(PAGE.getPageSize());
+        readModel = new UserReadModel(repository, tombstoneRepository, properties, changeHorizon);
+        Mockito.when(changeHorizon.current()).thenReturn(HORIZON);
+    }
+
+    @Test
+    @DisplayName("Should only serve once enabled and loaded")
+    public void whenNotLoadedOrDisabledThenNotServing() {
+        // when
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(0L, PAGE)).thenReturn(List.of(user(1L, 1L)));
+
+        // then
+        assertFalse(readModel.isServing());
+        readModel.refresh();
+        Mockito.verify(repository, Mockito.never()).findByChangeSeqGreaterThanOrderByChangeSeqAsc(Mockito.anyLong(), Mockito.any());
+
+        readModel.reload();
+        assertTrue(readModel.isServing());
+        assertEquals("User 1", readModel.findById(1L).orElseThrow().getName());
+
+        properties.setEnabled(false);
+        assertFalse(readModel.isServing());
+    }
+
+    @Test
+    @DisplayName("Should survive a failed load at start-up and load on the next refresh")
+    public void whenLoadFailsThenRefreshLoads() {
+        // given
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(0L, PAGE))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(List.of(user(1L, 1L)));
+
+        // when
+        readModel.load();
+        assertFalse(readModel.isServing());
+
+        readModel.refresh();
+
+        // then
+        assertTrue(readModel.isServing());
+        assertEquals("User 1", readModel.findById(1L).orElseThrow().getName());
+        Mockito.verify(repository, Mockito.never()).findByChangeSeqGreaterThanOrderByChangeSeqAsc(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Should neither load nor take writes when disabled")
+    public void whenDisabledThenReloadAndWritesAreIgnored() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        readModel.reload();
+        readModel.put(user(1L, 1L));
+
+        // then
+        assertFalse(readModel.isServing());
+        assertTrue(readModel.findById(1L).isEmpty());
+        Mockito.verifyNoInteractions(repository, tombstoneRepository, changeHorizon);
+    }
+
+    @Test
+    @DisplayName("Should replay local writes made while the reload reads its pages")
+    public void whenWritesDuringReloadThenReplayThemOnTheNewTable() {
+        // when
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(0L, PAGE)).thenAnswer(invocation -> {
+            // committed after this page was read
+            readModel.put(user(3L, 3L));
+            readModel.remove(2L);
+            return List.of(user(1L, 1L), user(2L, 2L));
+        });
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(2L, PAGE)).thenReturn(List.of());
+
+        readModel.reload();
+
+        // then
+        assertTrue(readModel.isServing());
+        assertEquals(List.of(1L, 3L), readModel.findAll().stream().map(User::getId).sorted().toList());
+        assertTrue(readModel.findById(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply rows and tombstones after their own cursors")
+    public void whenRefreshThenApplyChangesAndAdvanceCursors() {
+        // given
+        Mockito.when(repository.findSettledChangeSeq(HORIZON)).thenReturn(2L);
+        Mockito.when(tombstoneRepository.findSettledChangeSeq(HORIZON)).thenReturn(5L);
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(0L, PAGE)).thenReturn(List.of(user(1L, 1L)));
+        readModel.reload();
+
+        // when
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(2L, PAGE))
+                .thenReturn(List.of(user(2L, 6L), user(1L, 7L)));
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(7L, PAGE))
+                .thenReturn(List.of());
+        Mockito.when(tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(5L, PAGE))
+                .thenReturn(List.of(new UserTombstone(8L, 2L, HORIZON)));
+
+        readModel.refresh();
+        readModel.refresh();
+
+        // then
+        assertEquals(List.of(1L), readModel.findAll().stream().map(User::getId).toList());
+        assertEquals("User 1 (7)", readModel.findById(1L).orElseThrow().getName());
+        Mockito.verify(repository, Mockito.times(2)).findByChangeSeqGreaterThanOrderByChangeSeqAsc(7L, PAGE);
+        Mockito.verify(tombstoneRepository, Mockito.times(1)).findByChangeSeqGreaterThanOrderByChangeSeqAsc(8L, PAGE);
+    }
+
+    @Test
+    @DisplayName("Should stop the tail at the first change newer than the horizon")
+    public void whenRefreshReachesYoungChangeThenHoldItBack() {
+        // given
+        Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(0L, PAGE)).thenReturn(List.of(user(1L, 1L)));
+        readModel.reload();
+
+        // when
+        User young = user(3L, 4L);
+        young.setChangedAt(HORIZON.plusSeconds(1));
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PAGE))
+                .thenReturn(List.of(user(2L, 3L), young));
+        Mockito.when(repository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(3L, PAGE))
+                .thenReturn(List.of(young));
+
+        readModel.refresh();
+        readModel.refresh();
+
+        // then
+        assertEquals(List.of(1L, 2L), readModel.findAll().stream().map(User::getId).sorted().toList());
+        Mockito.verify(repository, Mockito.times(1)).findByChangeSeqGreaterThanOrderByChangeSeqAsc(0L, PAGE);
+        Mockito.verify(repository, Mockito.times(1)).findByChangeSeqGreaterThanOrderByChangeSeqAsc(3L, PAGE);
+        Mockito.verify(repository, Mockito.never()).findByChangeSeqGreaterThanOrderByChangeSeqAsc(4L, PAGE);
+    }
+
+    private static User user(Long id, Long changeSeq) {
+        return User.builder()
+                .id(id)
+                .name(changeSeq <= 3 ? "User " + id : "User " + id + " (" + changeSeq + ")")
+                .email("user" + id + "@gmail.com")
+                .password("password")
+                .changeSeq(changeSeq)
+                .changedAt(HORIZON.minusMinutes(1)).build();
+    }
+}
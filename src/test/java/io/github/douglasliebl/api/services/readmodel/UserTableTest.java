@@ -0,0 +1,69 @@
+package io.github.douglasliebl.api.services.readmodel;
+
+import io.github.douglasliebl.api.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserTableTest {
+
+    @Test
+    @DisplayName("Should store, update and remove users by id")
+    public void whenPutAndRemoveThenLookupsReflectChanges() {
+        // given
+        UserTable table = new UserTable();
+        table.put(User.builder().id(1L).name("User").email("user@gmail.com").password("password").build());
+        table.put(User.builder().id(2L).name("Ünïcode").email(null).build());
+
+        // when
+        table.put(User.builder().id(1L).name("User").email("renamed@gmail.com").password("password").build());
+        table.remove(3L);
+
+        // then
+        assertEquals(2, table.size());
+        assertEquals("renamed@gmail.com", table.get(1L).getEmail());
+        assertEquals("password", table.get(1L).getPassword());
+        assertEquals("Ünïcode", table.get(2L).getName());
+        assertNull(table.get(2L).getEmail());
+
+        table.remove(1L);
+        assertNull(table.get(1L));
+        assertEquals(List.of(2L), table.toList().stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should match a reference map under random writes")
+    public void whenRandomWritesThenMatchReferenceMap() {
+        // given
+        UserTable table = new UserTable();
+        Map<Long, User> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(2_000) + 1;
+            if (random.nextInt(3) == 0) {
+                table.remove(id);
+                reference.remove(id);
+            } else {
+                User user = User.builder()
+                        .id(id)
+                        .name("user" + i)
+                        .email("user" + id + "-" + random.nextInt(2) + "@gmail.com").build();
+                table.put(user);
+                reference.put(id, user);
+            }
+        }
+
+        // then
+        assertEquals(reference.size(), table.size());
+        for (long id = 1; id <= 2_000; id++) {
+            User expected = reference.get(id);
+            assertEquals(expected, table.get(id));
+        }
+        assertEquals(new HashSet<>(reference.values()), new HashSet<>(table.toList()));
+    }
+}